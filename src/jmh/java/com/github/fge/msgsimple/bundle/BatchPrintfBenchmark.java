@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.fge.msgsimple.bundle.BenchmarkBundles.*;
+
+/**
+ * Benchmarks comparing {@link MessageBundle#printfAll(java.util.Locale, List)}
+ * with individual {@code printf()} calls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class BatchPrintfBenchmark
+{
+    private static final int SIZE = 50;
+
+    @Param({ STATIC, LOADING, PROPERTIES })
+    public String providerType;
+
+    private MessageBundle bundle;
+    private final List<MessageRequest> requests
+        = new ArrayList<MessageRequest>(SIZE);
+
+    @Setup
+    public void setup()
+    {
+        bundle = newBundle(providerType);
+        for (int i = 0; i < SIZE; i++)
+            requests.add(i % 2 == 0 ? MessageRequest.of("printf", "world", i)
+                : MessageRequest.of("depth", i));
+    }
+
+    @Benchmark
+    public String[] individualPrintf()
+    {
+        final String[] ret = new String[SIZE];
+        MessageRequest request;
+
+        for (int i = 0; i < SIZE; i++) {
+            request = requests.get(i);
+            ret[i] = bundle.printf(LOCALE, request.getKey(), request.params);
+        }
+
+        return ret;
+    }
+
+    @Benchmark
+    public String[] batchPrintf()
+    {
+        return bundle.printfAll(LOCALE, requests);
+    }
+
+    @Benchmark
+    public StringBuilder batchPrintfToBuilder()
+        throws IOException
+    {
+        final StringBuilder sb = new StringBuilder(4096);
+        bundle.printfAll(sb, LOCALE, requests, "\n");
+        return sb;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.provider.LoadingMessageSourceProvider;
+import com.github.fge.msgsimple.provider.MessageSourceLoader;
+import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MapMessageSource;
+import com.github.fge.msgsimple.source.MessageSource;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Bundles used by benchmarks
+ *
+ * <p>All bundles have the same contents, which are those of the {@code
+ * bench.properties} and {@code bench_fr.properties} resources.</p>
+ */
+public final class BenchmarkBundles
+{
+    /**
+     * Name of the provider types, to be used as benchmark parameters
+     */
+    public static final String STATIC = "static";
+    public static final String LOADING = "loading";
+    public static final String PROPERTIES = "properties";
+
+    /**
+     * Locale in which keys are found directly
+     */
+    public static final Locale LOCALE = Locale.FRENCH;
+
+    /**
+     * Locale which needs to fall back three times to find root keys
+     */
+    public static final Locale DEEP_LOCALE = new Locale("fr", "FR", "BZH");
+
+    private static final MessageSource ROOT = MapMessageSource.newBuilder()
+        .put("hit", "Hello")
+        .put("root", "Root message")
+        .put("printf", "Hello %s, you have %d new messages")
+        .put("format", "Hello {0}, you have {1,number,integer} new messages")
+        .put("interpolate", "Hello {0}, you have {1} new messages")
+        .put("depth", "Queue depth: %d")
+        .put("load", "Load average: %s")
+        .build();
+
+    private static final MessageSource FRENCH = MapMessageSource.newBuilder()
+        .put("hit", "Bonjour")
+        .put("printf", "Bonjour %s, vous avez %d nouveaux messages")
+        .put("format",
+            "Bonjour {0}, vous avez {1,number,integer} nouveaux messages")
+        .put("interpolate", "Bonjour {0}, vous avez {1} nouveaux messages")
+        .put("depth", "Profondeur de la file : %d")
+        .put("load", "Charge moyenne : %s")
+        .build();
+
+    private BenchmarkBundles()
+    {
+    }
+
+    /**
+     * Create a new bundle with a given provider type
+     *
+     * @param type the provider type
+     * @return a new bundle builder
+     */
+    public static MessageBundleBuilder newBuilder(final String type)
+    {
+        if (STATIC.equals(type))
+            return MessageBundle.newBuilder().appendSource(Locale.ROOT, ROOT)
+                .appendSource(Locale.FRENCH, FRENCH);
+        if (LOADING.equals(type))
+            return MessageBundle.newBuilder().appendProvider(loading());
+        if (PROPERTIES.equals(type))
+            return PropertiesBundle.forPath("com/github/fge/msgsimple/bench")
+                .thaw();
+        throw new IllegalArgumentException("unknown provider type " + type);
+    }
+
+    /**
+     * Create a new bundle with a given provider type, and make sure all
+     * sources are loaded
+     *
+     * @param type the provider type
+     * @return a new bundle
+     */
+    public static MessageBundle newBundle(final String type)
+    {
+        return warmUp(newBuilder(type).freeze());
+    }
+
+    /**
+     * Query a bundle so that loading providers have loaded all sources
+     *
+     * @param bundle the bundle
+     * @return the same bundle
+     */
+    public static MessageBundle warmUp(final MessageBundle bundle)
+    {
+        bundle.getMessage(DEEP_LOCALE, "warmup");
+        bundle.getMessage(LOCALE, "warmup");
+        return bundle;
+    }
+
+    private static MessageSourceProvider loading()
+    {
+        final MessageSourceLoader loader = new MessageSourceLoader()
+        {
+            @Override
+            public MessageSource load(final Locale locale)
+                throws IOException
+            {
+                if (locale.equals(Locale.ROOT))
+                    return ROOT;
+                if (locale.equals(Locale.FRENCH))
+                    return FRENCH;
+                return null;
+            }
+        };
+
+        return LoadingMessageSourceProvider.newBuilder().setLoader(loader)
+            .neverExpires().build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.fge.msgsimple.bundle.BenchmarkBundles.*;
+
+/**
+ * Benchmarks for lookups in bundles with message and miss caches enabled
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class CachedMessageBundleBenchmark
+{
+    @Param({ STATIC, LOADING, PROPERTIES })
+    public String providerType;
+
+    private MessageBundle bundle;
+
+    @Setup
+    public void setup()
+    {
+        bundle = warmUp(newBuilder(providerType).setCacheSize(1024)
+            .setMissCacheSize(1024).freeze());
+    }
+
+    @Benchmark
+    public String getMessageHit()
+    {
+        return bundle.getMessage(LOCALE, "hit");
+    }
+
+    @Benchmark
+    public String getMessageMiss()
+    {
+        return bundle.getMessage(LOCALE, "missing");
+    }
+
+    @Benchmark
+    public String getMessageDeepFallback()
+    {
+        return bundle.getMessage(DEEP_LOCALE, "root");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.fge.msgsimple.bundle.BenchmarkBundles.*;
+
+/**
+ * Benchmarks comparing the primitive {@code printf()} overloads of {@link
+ * MessageBundle} with the {@code Object...} one
+ *
+ * <p>Run with {@code -prof gc} (the default for the {@code jmh} task) to
+ * compare allocation rates.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class PrimitivePrintfBenchmark
+{
+    private MessageBundle bundle;
+
+    /*
+     * Outside of the Integer cache, and not constant-folded
+     */
+    private int intValue = 4096;
+    private long longValue = 1L << 40;
+    private double doubleValue = 0.75;
+
+    @Setup
+    public void setup()
+    {
+        bundle = newBundle(STATIC);
+    }
+
+    @Benchmark
+    public String printfIntVarargs()
+    {
+        return bundle.printf(LOCALE, "depth", new Object[] { intValue });
+    }
+
+    @Benchmark
+    public String printfInt()
+    {
+        return bundle.printf(LOCALE, "depth", intValue);
+    }
+
+    @Benchmark
+    public String printfLongVarargs()
+    {
+        return bundle.printf(LOCALE, "depth", new Object[] { longValue });
+    }
+
+    @Benchmark
+    public String printfLong()
+    {
+        return bundle.printf(LOCALE, "depth", longValue);
+    }
+
+    @Benchmark
+    public String printfDoubleVarargs()
+    {
+        return bundle.printf(LOCALE, "load", new Object[] { doubleValue });
+    }
+
+    @Benchmark
+    public String printfDouble()
+    {
+        return bundle.printf(LOCALE, "load", doubleValue);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.provider;
+
+import com.github.fge.msgsimple.source.MapMessageSource;
+import com.github.fge.msgsimple.source.MessageSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for concurrent lookups in a {@link LoadingMessageSourceProvider}
+ *
+ * <p>All sources are loaded during setup, so that only the steady state read
+ * path is measured. Compare the throughput of the single threaded benchmark
+ * with the one using as many threads as there are available cores; a read path
+ * which does not serialize threads should scale with the number of cores.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class LoadingProviderBenchmark
+{
+    private static final Locale[] LOCALES = {
+        Locale.ROOT, Locale.ENGLISH, Locale.US, Locale.FRENCH, Locale.FRANCE,
+        Locale.GERMAN, Locale.GERMANY, Locale.ITALIAN
+    };
+
+    private MessageSourceProvider provider;
+
+    @Setup
+    public void setup()
+    {
+        final MessageSource source = MapMessageSource.newBuilder()
+            .put("key", "value").build();
+
+        final MessageSourceLoader loader = new MessageSourceLoader()
+        {
+            @Override
+            public MessageSource load(final Locale locale)
+                throws IOException
+            {
+                return source;
+            }
+        };
+
+        provider = LoadingMessageSourceProvider.newBuilder()
+            .setLoader(loader).neverExpires().build();
+
+        for (final Locale locale: LOCALES)
+            provider.getMessageSource(locale);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int lookupSingleThread()
+    {
+        return lookupAll();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int lookupAllThreads()
+    {
+        return lookupAll();
+    }
+
+    private int lookupAll()
+    {
+        int ret = 0;
+        for (final Locale locale: LOCALES)
+            if (provider.getMessageSource(locale) != null)
+                ret++;
+        return ret;
+    }
+}
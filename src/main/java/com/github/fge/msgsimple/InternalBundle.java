@@ -36,11 +36,18 @@ public final class InternalBundle
     {
         messages.put("query.nullKey", "cannot query null keys");
         messages.put("query.nullLocale", "cannot query null locale");
+        messages.put("query.nullKeys", "cannot query null key collection");
+        messages.put("query.nullAppendable", "cannot write to null appendable");
+        messages.put("query.nullMap", "argument map cannot be null");
+        messages.put("query.nullRequests", "cannot query null request list");
+        messages.put("query.nullRequest", "cannot query null request");
+        messages.put("query.nullSeparator", "separator cannot be null");
         messages.put("cfg.nullProvider",
             "cannot append null message source provider");
         messages.put("cfg.nullResourcePath", "resource path cannot be null");
         messages.put("cfg.noLoader", "no loader has been provided");
         messages.put("cfg.nullLoader", "loader cannot be null");
+        messages.put("cfg.nullExecutor", "executor cannot be null");
         messages.put("cfg.nullDefaultSource",
             "when provided, the default message source must not be null");
         messages.put("cfg.nonPositiveDuration", "timeout must be greater than 0");
@@ -56,6 +63,8 @@ public final class InternalBundle
         messages.put("properties.resource.notFound", "resource \"%s\" not found");
         messages.put("cfg.nullCharset", "charset cannot be null");
         messages.put("cfg.nullBundle", "bundle cannot be null");
+        messages.put("cfg.nullDefaultLocale", "default locale cannot be null");
+        messages.put("cfg.negativeCacheSize", "cache size cannot be negative");
         messages.put("factory.noConstructor", "bundle provider does not have" +
             " a no-arg constructor");
         messages.put("factory.cannotInstantiate", "cannot instantiate bundle" +
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import java.util.Locale;
+
+/**
+ * Failure path of the fixed-arity check methods of {@link MessageBundle}
+ *
+ * <p>The condition is checked by the bundle itself, so that a passing check
+ * neither boxes its arguments nor creates a varargs array; the methods of
+ * this class are only called once the check has failed, and build the
+ * exception to throw.</p>
+ */
+final class FailedChecks
+{
+    private FailedChecks()
+    {
+    }
+
+    static NullPointerException nullPrintf(final MessageBundle bundle,
+        final Locale locale, final String key, final Object... params)
+    {
+        return new NullPointerException(bundle.printf(locale, key, params));
+    }
+
+    static IllegalArgumentException illegalPrintf(final MessageBundle bundle,
+        final Locale locale, final String key, final Object... params)
+    {
+        return new IllegalArgumentException(bundle.printf(locale, key,
+            params));
+    }
+
+    static NullPointerException nullFormat(final MessageBundle bundle,
+        final Locale locale, final String key, final Object... params)
+    {
+        return new NullPointerException(bundle.format(locale, key, params));
+    }
+
+    static IllegalArgumentException illegalFormat(final MessageBundle bundle,
+        final Locale locale, final String key, final Object... params)
+    {
+        return new IllegalArgumentException(bundle.format(locale, key,
+            params));
+    }
+}
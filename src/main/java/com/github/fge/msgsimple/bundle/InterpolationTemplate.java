@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled message with {@code {0}}/{@code {name}} placeholders
+ *
+ * <p>A placeholder is an opening brace, followed by one or more ASCII letters,
+ * digits, underscores, dashes or dots, followed by a closing brace. A
+ * placeholder made of digits only is positional (arguments are numbered from
+ * 0); any other placeholder is named. Braces which are not part of a
+ * placeholder are output as is; there is no escaping mechanism.</p>
+ *
+ * <p>Values are rendered using {@link String#valueOf(Object)}. A placeholder
+ * for which no argument is available is output unchanged.</p>
+ */
+@Immutable
+final class InterpolationTemplate
+{
+    /*
+     * literals[i] is output before placeholder i; the last literal is output
+     * after all placeholders
+     */
+    private final String[] literals;
+    private final String[] names;
+    /*
+     * -1 for named placeholders
+     */
+    private final int[] indices;
+    private final int length;
+
+    private InterpolationTemplate(final List<String> literals,
+        final List<String> names, final int length)
+    {
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.names = names.toArray(new String[names.size()]);
+        this.length = length;
+
+        indices = new int[this.names.length];
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = index(this.names[i]);
+    }
+
+    /**
+     * Compile a message
+     *
+     * @param message the message
+     * @return the compiled template
+     */
+    static InterpolationTemplate compile(final String message)
+    {
+        final List<String> literals = new ArrayList<String>();
+        final List<String> names = new ArrayList<String>();
+        final int len = message.length();
+
+        int start = 0;
+        int open = message.indexOf('{');
+        int end;
+
+        while (open != -1) {
+            end = open + 1;
+            while (end < len && isNameChar(message.charAt(end)))
+                end++;
+            if (end == open + 1 || end == len || message.charAt(end) != '}') {
+                open = message.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(message.substring(start, open));
+            names.add(message.substring(open + 1, end));
+            start = end + 1;
+            open = message.indexOf('{', start);
+        }
+
+        literals.add(message.substring(start));
+        return new InterpolationTemplate(literals, names, len);
+    }
+
+    /**
+     * Render this template with positional arguments
+     *
+     * @param args the arguments (may be null)
+     * @return the rendered message
+     */
+    String render(final Object[] args)
+    {
+        if (names.length == 0)
+            return literals[0];
+
+        final StringBuilder sb = new StringBuilder(length + 16 * names.length);
+        final int nrArgs = args == null ? 0 : args.length;
+
+        int index;
+        for (int i = 0; i < names.length; i++) {
+            sb.append(literals[i]);
+            index = indices[i];
+            if (index != -1 && index < nrArgs)
+                sb.append(String.valueOf(args[index]));
+            else
+                sb.append('{').append(names[i]).append('}');
+        }
+
+        return sb.append(literals[names.length]).toString();
+    }
+
+    /**
+     * Render this template with named arguments
+     *
+     * <p>Positional placeholders are looked up as well, using their digits as
+     * the name.</p>
+     *
+     * @param args the arguments
+     * @return the rendered message
+     */
+    String render(final Map<String, ?> args)
+    {
+        if (names.length == 0)
+            return literals[0];
+
+        final StringBuilder sb = new StringBuilder(length + 16 * names.length);
+
+        String name;
+        Object value;
+        for (int i = 0; i < names.length; i++) {
+            sb.append(literals[i]);
+            name = names[i];
+            value = args.get(name);
+            if (value != null || args.containsKey(name))
+                sb.append(String.valueOf(value));
+            else
+                sb.append('{').append(name).append('}');
+        }
+
+        return sb.append(literals[names.length]).toString();
+    }
+
+    private static boolean isNameChar(final char c)
+    {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+            || c >= '0' && c <= '9' || c == '_' || c == '-' || c == '.';
+    }
+
+    /*
+     * Return the index of a positional placeholder, or -1 if the placeholder
+     * is named (or too large to be an index)
+     */
+    private static int index(final String name)
+    {
+        if (name.length() > 9)
+            return -1;
+
+        for (int i = 0; i < name.length(); i++)
+            if (name.charAt(i) < '0' || name.charAt(i) > '9')
+                return -1;
+
+        return Integer.parseInt(name);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Locale;
+
+/**
+ * A message which is only formatted when first needed
+ *
+ * <p>You obtain an instance using {@link MessageBundle#lazy(Locale, String,
+ * Object...)}. Creating one does not query the bundle at all: the message is
+ * looked up and formatted using {@link MessageBundle#printf(Locale, String,
+ * Object...)} the first time {@link #toString()} (or any other method of
+ * {@link CharSequence}) is called, and the result is then remembered.</p>
+ *
+ * <p>This makes instances suitable as arguments to logging methods, which
+ * only call {@link #toString()} if the message is actually logged.</p>
+ *
+ * <p>Note that the format parameters are not copied: if you modify the
+ * parameter array, or one of the parameters themselves, before the message is
+ * formatted, the modification will be visible in the message.</p>
+ */
+@ThreadSafe
+public final class LazyMessage
+    implements CharSequence
+{
+    private final MessageBundle bundle;
+    private final Locale locale;
+    private final String key;
+    private final Object[] params;
+
+    /*
+     * Formatting twice in the event of a race is harmless, the result is the
+     * same
+     */
+    private volatile String message;
+
+    LazyMessage(final MessageBundle bundle, final Locale locale,
+        final String key, final Object[] params)
+    {
+        this.bundle = bundle;
+        this.locale = locale;
+        this.key = key;
+        this.params = params;
+    }
+
+    /**
+     * Return the locale of this message
+     *
+     * @return the locale
+     */
+    public Locale getLocale()
+    {
+        return locale;
+    }
+
+    /**
+     * Return the key of this message
+     *
+     * @return the key
+     */
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Tell whether this message has been formatted already
+     *
+     * @return true if it has
+     */
+    public boolean isFormatted()
+    {
+        return message != null;
+    }
+
+    @Override
+    public int length()
+    {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(final int index)
+    {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end)
+    {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString()
+    {
+        String ret = message;
+
+        if (ret == null) {
+            ret = bundle.printf(locale, key, params);
+            message = ret;
+        }
+
+        return ret;
+    }
+}
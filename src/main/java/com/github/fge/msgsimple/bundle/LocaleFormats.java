@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Locale-dependent formatting resources, computed once per locale
+ *
+ * <p>This holds what {@link PrintfTemplate} needs to know about a locale to
+ * render numbers the same way as {@link java.util.Formatter}, and the default
+ * number and date formats used by {@link java.text.MessageFormat} for
+ * arguments with no format type. As formats are not thread safe, these are
+ * kept as prototypes, and a clone is returned to each caller.</p>
+ */
+@ThreadSafe
+final class LocaleFormats
+{
+    private static final int MAX_CACHED_LOCALES = 512;
+
+    private static final ConcurrentMap<Locale, LocaleFormats> CACHE
+        = new ConcurrentHashMap<Locale, LocaleFormats>();
+
+    /**
+     * Whether the zero digit of this locale is {@code '0'}
+     */
+    final boolean asciiZero;
+
+    /**
+     * Grouping separator used by {@code %,d}; {@code '\0'} if this locale does
+     * not group digits
+     */
+    final char groupingSeparator;
+
+    /**
+     * Grouping size used by {@code %,d}
+     */
+    final int groupingSize;
+
+    private final NumberFormat numberFormat;
+    private final DateFormat dateFormat;
+
+    static LocaleFormats forLocale(final Locale locale)
+    {
+        LocaleFormats ret = CACHE.get(locale);
+
+        if (ret == null) {
+            ret = new LocaleFormats(locale);
+            if (CACHE.size() < MAX_CACHED_LOCALES)
+                CACHE.put(locale, ret);
+        }
+
+        return ret;
+    }
+
+    private LocaleFormats(final Locale locale)
+    {
+        numberFormat = NumberFormat.getInstance(locale);
+        dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT,
+            DateFormat.SHORT, locale);
+
+        /*
+         * Same logic as java.util.Formatter
+         */
+        if (locale.equals(Locale.US)) {
+            asciiZero = true;
+            groupingSeparator = ',';
+            groupingSize = 3;
+            return;
+        }
+
+        final DecimalFormatSymbols symbols
+            = DecimalFormatSymbols.getInstance(locale);
+        asciiZero = symbols.getZeroDigit() == '0';
+
+        final NumberFormat format = NumberFormat.getNumberInstance(locale);
+        if (format instanceof DecimalFormat
+            && format.isGroupingUsed()
+            && ((DecimalFormat) format).getGroupingSize() > 0) {
+            groupingSeparator = symbols.getGroupingSeparator();
+            groupingSize = ((DecimalFormat) format).getGroupingSize();
+        } else {
+            groupingSeparator = '\0';
+            groupingSize = 0;
+        }
+    }
+
+    /**
+     * Return a number format equivalent to {@link NumberFormat#getInstance(
+     * Locale)} for this locale
+     *
+     * @return a new number format
+     */
+    NumberFormat numberFormat()
+    {
+        return (NumberFormat) numberFormat.clone();
+    }
+
+    /**
+     * Return a date format equivalent to {@link
+     * DateFormat#getDateTimeInstance(int, int, Locale)} with short styles for
+     * this locale
+     *
+     * @return a new date format
+     */
+    DateFormat dateFormat()
+    {
+        return (DateFormat) dateFormat.clone();
+    }
+}
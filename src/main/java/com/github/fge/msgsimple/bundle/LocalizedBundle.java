@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.source.MessageSource;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * A view of a {@link MessageBundle} bound to a given locale
+ *
+ * <p>You obtain such a view using {@link MessageBundle#forLocale(Locale)}. It
+ * offers the same lookup, formatting and check methods as a bundle, without the
+ * locale argument; all message sources to query for this locale have already
+ * been determined when the view was created.</p>
+ *
+ * @see MessageBundle#forLocale(Locale)
+ */
+@ThreadSafe
+public final class LocalizedBundle
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    private final MessageBundle bundle;
+    private final Locale locale;
+    private final MessageSource[] sources;
+
+    LocalizedBundle(final MessageBundle bundle, final Locale locale,
+        final MessageSource[] sources)
+    {
+        this.bundle = bundle;
+        this.locale = locale;
+        this.sources = sources;
+    }
+
+    /**
+     * Return the locale of this view
+     *
+     * @return the locale
+     */
+    public Locale getLocale()
+    {
+        return locale;
+    }
+
+    /**
+     * Get a message for the given key
+     *
+     * @param key the key
+     * @return a matching message if found; the key itself if no message is
+     * found
+     * @throws NullPointerException key is null
+     * @see MessageBundle#getMessage(Locale, String)
+     */
+    public String getMessage(final String key)
+    {
+        BUNDLE.checkNotNull(key, "query.nullKey");
+        final String ret = MessageBundle.lookup(sources, key);
+        return ret == null ? key : ret;
+    }
+
+    /**
+     * Get a {@code printf()}-like formatted message
+     *
+     * @param key the key
+     * @param params the format parameters
+     * @return the formatted message
+     * @see MessageBundle#printf(Locale, String, Object...)
+     */
+    public String printf(final String key, final Object... params)
+    {
+        return bundle.printfMessage(locale, getMessage(key), params);
+    }
+
+    /**
+     * Get a message formatted using {@link MessageFormat}
+     *
+     * @param key the key
+     * @param params the format parameters
+     * @return the formatted message
+     * @see MessageBundle#format(Locale, String, Object...)
+     */
+    public String format(final String key, final Object... params)
+    {
+        return bundle.formatMessage(locale, getMessage(key), params);
+    }
+
+    /**
+     * Check an object reference for {@code null} and return it
+     *
+     * @param reference the reference to check
+     * @param key the key
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException reference is null
+     * @see MessageBundle#checkNotNull(Object, Locale, String)
+     */
+    public <T> T checkNotNull(final T reference, final String key)
+    {
+        if (reference == null)
+            throw new NullPointerException(getMessage(key));
+        return reference;
+    }
+
+    /**
+     * Check for a condition
+     *
+     * @param condition the condition to check
+     * @param key the key
+     * @throws IllegalArgumentException condition is false
+     * @see MessageBundle#checkArgument(boolean, Locale, String)
+     */
+    public void checkArgument(final boolean condition, final String key)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(getMessage(key));
+    }
+
+    /**
+     * Check an object reference for {@code null} and return it
+     *
+     * @param reference the reference to check
+     * @param key the key
+     * @param params arguments for the format string
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException reference is null
+     * @see MessageBundle#checkNotNullPrintf(Object, Locale, String, Object...)
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(printf(key, params));
+        return reference;
+    }
+
+    /**
+     * Check for a condition
+     *
+     * @param condition the condition to check
+     * @param key the key
+     * @param params arguments for the format string
+     * @throws IllegalArgumentException condition is false
+     * @see MessageBundle#checkArgumentPrintf(boolean, Locale, String,
+     * Object...)
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final Object... params)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(printf(key, params));
+    }
+
+    /**
+     * Check an object reference for {@code null} and return it
+     *
+     * @param reference the reference to check
+     * @param key the key
+     * @param params arguments for the format string
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException reference is null
+     * @see MessageBundle#checkNotNullFormat(Object, Locale, String, Object...)
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(format(key, params));
+        return reference;
+    }
+
+    /**
+     * Check for a condition
+     *
+     * @param condition the condition to check
+     * @param key the key
+     * @param params arguments for the format string
+     * @throws IllegalArgumentException condition is false
+     * @see MessageBundle#checkArgumentFormat(boolean, Locale, String,
+     * Object...)
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final Object... params)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(format(key, params));
+    }
+}
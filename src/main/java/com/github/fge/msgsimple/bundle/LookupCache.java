@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A bounded cache of lookup results, indexed by locale and key
+ *
+ * <p>Keys are message keys for message lookups, but can be anything with
+ * proper {@link Object#equals(Object)} and {@link Object#hashCode()}
+ * implementations (see {@link PrintfKey}).</p>
+ *
+ * <p>All entries are tagged with a generation (see {@link
+ * MessageBundle#generation()}); when a lookup or insertion is done with a newer
+ * generation than the one of the current entries, all entries are discarded.
+ * </p>
+ *
+ * <p>Reads are lock free and do not allocate. When the number of entries
+ * exceeds the maximum size, the whole cache is discarded; this is crude, but
+ * the typical use case is a few hundred keys looked up over and over again.
+ * </p>
+ */
+@ThreadSafe
+final class LookupCache<K>
+{
+    private final int maxSize;
+
+    private final AtomicReference<Table<K>> table;
+
+    LookupCache(final int maxSize)
+    {
+        this.maxSize = maxSize;
+        table = new AtomicReference<Table<K>>(new Table<K>(0L));
+    }
+
+    /**
+     * Get a cached value
+     *
+     * @param generation the current generation
+     * @param locale the locale
+     * @param key the key
+     * @return the cached value, or {@code null} if not found
+     */
+    String get(final long generation, final Locale locale, final K key)
+    {
+        final Table<K> current = table.get();
+        if (current.generation != generation)
+            return null;
+        final ConcurrentMap<K, String> map = current.entries.get(locale);
+        return map == null ? null : map.get(key);
+    }
+
+    /**
+     * Insert a value into the cache
+     *
+     * <p>The value is not inserted if the given generation is older than the
+     * one of the current entries.</p>
+     *
+     * @param generation the generation at the time the value was computed
+     * @param locale the locale
+     * @param key the key
+     * @param value the value
+     */
+    void put(final long generation, final Locale locale, final K key,
+        final String value)
+    {
+        Table<K> current = table.get();
+
+        if (current.generation > generation)
+            return;
+
+        if (current.generation < generation) {
+            final Table<K> newTable = new Table<K>(generation);
+            table.compareAndSet(current, newTable);
+            current = table.get();
+            if (current.generation != generation)
+                return;
+        }
+
+        if (current.size.incrementAndGet() > maxSize) {
+            table.compareAndSet(current, new Table<K>(generation));
+            return;
+        }
+
+        ConcurrentMap<K, String> map = current.entries.get(locale);
+
+        if (map == null) {
+            final ConcurrentMap<K, String> newMap
+                = new ConcurrentHashMap<K, String>();
+            map = current.entries.putIfAbsent(locale, newMap);
+            if (map == null)
+                map = newMap;
+        }
+
+        map.put(key, value);
+    }
+
+    private static final class Table<K>
+    {
+        private final long generation;
+        private final AtomicInteger size = new AtomicInteger();
+        private final ConcurrentMap<Locale, ConcurrentMap<K, String>> entries
+            = new ConcurrentHashMap<Locale, ConcurrentMap<K, String>>();
+
+        private Table(final long generation)
+        {
+            this.generation = generation;
+        }
+    }
+}
@@ -21,18 +21,26 @@ package com.github.fge.msgsimple.bundle;
 
 import com.github.fge.Frozen;
 import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.locale.LocaleContext;
 import com.github.fge.msgsimple.locale.LocaleUtils;
+import com.github.fge.msgsimple.provider.DynamicMessageSourceProvider;
 import com.github.fge.msgsimple.provider.MessageSourceProvider;
 import com.github.fge.msgsimple.provider.StaticMessageSourceProvider;
 import com.github.fge.msgsimple.source.MessageSource;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Formatter;
 import java.util.IllegalFormatException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A message bundle
@@ -42,12 +50,55 @@ import java.util.Locale;
  * that locale; if a source is found, it is queried for the message.</p>
  *
  * <p>When a method is used which does not take a {@link Locale} as an argument,
- * the default locale is used (obtained via {@link Locale#getDefault()}). If no
- * match is found for the locale, the next, more general locale is tried.</p>
+ * the <em>current locale</em> is used. This is, in order of preference:</p>
+ *
+ * <ul>
+ *     <li>the locale bound to the current thread, if any (see {@link
+ *     LocaleContext});</li>
+ *     <li>the default locale of this bundle, if any (see {@link
+ *     MessageBundleBuilder#setDefaultLocale(Locale)});</li>
+ *     <li>the JVM's default locale (obtained via {@link Locale#getDefault()}).
+ *     </li>
+ * </ul>
+ *
+ * <p>If no match is found for the locale, the next, more general locale is
+ * tried.</p>
  *
  * <p>Finally, if no match was found for any provider/source, the key itself is
  * returned.</p>
  *
+ * <p>When a bundle is frozen, consecutive {@link StaticMessageSourceProvider}s
+ * are merged into a single one (see {@link
+ * StaticMessageSourceProvider#merge(List)}). If the bundle only has static
+ * providers, the list of message sources to query for a given locale is
+ * computed only once.</p>
+ *
+ * <p>A bundle can optionally cache the messages it has found (see {@link
+ * MessageBundleBuilder#setCacheSize(int)}). If one of the providers is a
+ * {@link DynamicMessageSourceProvider}, the cache is invalidated whenever this
+ * provider's generation changes; all other providers are assumed to always
+ * return the same message sources for a given locale.</p>
+ *
+ * <p>Similarly, a bundle can remember the locale/key pairs for which no
+ * message was found (see {@link MessageBundleBuilder#setMissCacheSize(int)}).
+ * This is useful if you look up optional keys which are usually missing.</p>
+ *
+ * <p>Finally, a bundle can remember the results of {@link #printf(Locale,
+ * String, Object...)} for parameters of immutable types (see {@link
+ * MessageBundleBuilder#setPrintfCacheSize(int)}).</p>
+ *
+ * <p>The {@code checkNotNullPrintf()}, {@code checkArgumentPrintf()}, {@code
+ * checkNotNullFormat()} and {@code checkArgumentFormat()} methods have
+ * <i>fixed-arity check methods</i> as overloads, which take one, two or three
+ * {@link Object} arguments, or a single argument of any primitive type other
+ * than {@code boolean}, with or without a locale. They behave the same as the
+ * {@code Object...} versions; however, when the check passes, they allocate
+ * nothing: no varargs array is created, no argument is boxed, and the current
+ * locale is not determined. There are overloads for all of {@code char},
+ * {@code byte}, {@code short} and {@code float} so that these arguments are
+ * not widened to {@code int} or {@code double}, which would change the output
+ * of specifiers such as {@code %x} or {@code %s}.</p>
+ *
  * <p>You can generate a bundle from a single source using the {@link
  * #withSingleSource(MessageSource)} convenience static factory method; for more
  * elaborate bundles, use {@link #newBuilder()} to obtain a builder, then that
@@ -65,8 +116,64 @@ public final class MessageBundle
     private static final InternalBundle BUNDLE
         = InternalBundle.getInstance();
 
-    final List<MessageSourceProvider> providers
-        = new ArrayList<MessageSourceProvider>();
+    private static final MessageSource[] NO_SOURCES = new MessageSource[0];
+
+    /*
+     * Maximum number of locales for which we remember the list of sources, in
+     * bundles with only static providers
+     */
+    private static final int MAX_CACHED_LOCALES = 512;
+
+    /*
+     * Maximum number of compiled printf() (and interpolation) templates kept
+     * by a bundle; as for lookup caches, when this number is reached, all
+     * templates are discarded (a dynamic provider may have replaced the
+     * messages they were compiled from)
+     */
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+
+    /*
+     * Maximum number of parsed MessageFormat patterns kept by a bundle
+     */
+    private static final int MAX_CACHED_MESSAGE_FORMATS = 1024;
+
+    final MessageSourceProvider[] providers;
+
+    private final DynamicMessageSourceProvider[] dynamicProviders;
+
+    /*
+     * Sources to query for each locale, if this bundle only has static
+     * providers; null otherwise
+     */
+    private final ConcurrentMap<Locale, MessageSource[]> staticSources;
+
+    /*
+     * Whether all providers are either static or dynamic; if not, we cannot
+     * tell when a found message becomes stale, and handles do not remember
+     * messages
+     */
+    final boolean trackedProviders;
+
+    final Locale defaultLocale;
+
+    final int cacheSize;
+    private final LookupCache<String> cache;
+
+    final int missCacheSize;
+    private final LookupCache<String> missCache;
+
+    final int printfCacheSize;
+    private final LookupCache<PrintfKey> printfCache;
+
+    private final ConcurrentMap<String, PrintfTemplate> printfTemplates
+        = new ConcurrentHashMap<String, PrintfTemplate>();
+
+    private final ConcurrentMap<String, InterpolationTemplate>
+        interpolationTemplates
+        = new ConcurrentHashMap<String, InterpolationTemplate>();
+
+    private final MessageFormatCache messageFormats
+        = new MessageFormatCache(MAX_CACHED_MESSAGE_FORMATS);
 
     /**
      * Create a new, empty builder for a bundle
@@ -97,7 +204,136 @@ public final class MessageBundle
 
     MessageBundle(final MessageBundleBuilder builder)
     {
-        providers.addAll(builder.providers);
+        final List<MessageSourceProvider> list = collapse(builder.providers);
+        final List<DynamicMessageSourceProvider> dynamicList
+            = new ArrayList<DynamicMessageSourceProvider>();
+
+        boolean allStatic = true;
+        boolean allTracked = true;
+
+        for (final MessageSourceProvider provider: list) {
+            if (provider instanceof DynamicMessageSourceProvider)
+                dynamicList.add((DynamicMessageSourceProvider) provider);
+            else if (!(provider instanceof StaticMessageSourceProvider))
+                allTracked = false;
+            if (!(provider instanceof StaticMessageSourceProvider))
+                allStatic = false;
+        }
+
+        providers = list.toArray(new MessageSourceProvider[list.size()]);
+        dynamicProviders = dynamicList.toArray(
+            new DynamicMessageSourceProvider[dynamicList.size()]);
+
+        staticSources = allStatic
+            ? new ConcurrentHashMap<Locale, MessageSource[]>() : null;
+        trackedProviders = allTracked;
+        defaultLocale = builder.defaultLocale;
+        /*
+         * Resolve the locale chain of the default locale right away
+         */
+        if (defaultLocale != null)
+            LocaleUtils.getApplicableList(defaultLocale);
+        cacheSize = builder.cacheSize;
+        cache = cacheSize == 0 ? null : new LookupCache<String>(cacheSize);
+        missCacheSize = builder.missCacheSize;
+        missCache = missCacheSize == 0 ? null
+            : new LookupCache<String>(missCacheSize);
+        printfCacheSize = builder.printfCacheSize;
+        printfCache = printfCacheSize == 0 ? null
+            : new LookupCache<PrintfKey>(printfCacheSize);
+    }
+
+    /**
+     * Get a reusable handle for a given key
+     *
+     * <p>A handle remembers the message it has found for each locale, so that
+     * further lookups in the same locale do not have to query this bundle
+     * again (unless a {@link DynamicMessageSourceProvider} of this bundle
+     * changed generation in the meantime). Handles can typically be stored in
+     * static final fields.</p>
+     *
+     * <p>If one of the providers of this bundle is neither a {@link
+     * StaticMessageSourceProvider} nor a {@link DynamicMessageSourceProvider},
+     * handles do not remember messages, and every lookup queries this bundle.
+     * </p>
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @return a handle for that key
+     * @throws NullPointerException key is null
+     */
+    public MessageHandle handle(final String key)
+    {
+        BUNDLE.checkNotNull(key, "query.nullKey");
+        return new MessageHandle(this, key);
+    }
+
+    /**
+     * Get a lazily formatted {@code printf()}-like message
+     *
+     * <p>The returned message is only looked up and formatted when its {@link
+     * LazyMessage#toString()} method is first called, with the same result as
+     * {@link #printf(Locale, String, Object...)}; it is then remembered.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param params the format parameters
+     * @return a lazily formatted message
+     * @throws NullPointerException either the key or the locale is null
+     */
+    public LazyMessage lazy(final Locale locale, final String key,
+        final Object... params)
+    {
+        BUNDLE.checkNotNull(key, "query.nullKey");
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+        return new LazyMessage(this, locale, key, params);
+    }
+
+    /**
+     * Get a lazily formatted {@code printf()}-like message with the current
+     * locale
+     *
+     * <p>This calls {@link #lazy(Locale, String, Object...)} with the current
+     * locale as the first argument; note that the current locale is determined
+     * when this method is called, not when the message is formatted.</p>
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param params the format parameters
+     * @return a lazily formatted message
+     * @throws NullPointerException key is null
+     */
+    public LazyMessage lazy(final String key, final Object... params)
+    {
+        return lazy(currentLocale(), key, params);
+    }
+
+    /**
+     * Get a view of this bundle for a given locale
+     *
+     * <p>The returned view queries all providers for all applicable locales
+     * once, when it is created; its methods then only have to query the
+     * message sources it found. Creating a view is cheap enough that you can
+     * create one per request, for instance.</p>
+     *
+     * <p>Note that, as a consequence, a view does not see changes in the
+     * message sources returned by {@link DynamicMessageSourceProvider}s after
+     * it has been created.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @return a view of this bundle for this locale
+     * @throws NullPointerException locale is null
+     */
+    public LocalizedBundle forLocale(final Locale locale)
+    {
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+        return new LocalizedBundle(this, locale, resolveSources(locale));
     }
 
     /**
@@ -114,36 +350,244 @@ public final class MessageBundle
         BUNDLE.checkNotNull(key, "query.nullKey");
         BUNDLE.checkNotNull(locale, "query.nullLocale");
 
+        if (cache == null && missCache == null) {
+            final String ret = lookup(locale, key);
+            return ret == null ? key : ret;
+        }
+
+        final long generation = generation();
         String ret;
+
+        if (cache != null) {
+            ret = cache.get(generation, locale, key);
+            if (ret != null)
+                return ret;
+        }
+
+        if (missCache != null && missCache.get(generation, locale, key) != null)
+            return key;
+
+        ret = lookup(locale, key);
+
+        if (ret == null) {
+            if (missCache != null)
+                missCache.put(generation, locale, key, key);
+            // No source found which has the key... Return the key itself.
+            return key;
+        }
+
+        if (cache != null)
+            cache.put(generation, locale, key, ret);
+
+        return ret;
+    }
+
+    /**
+     * Get messages for several keys in a given locale
+     *
+     * <p>This is equivalent to calling {@link #getMessage(Locale, String)} for
+     * each key, except that providers are only queried once for all applicable
+     * locales, instead of once per key.</p>
+     *
+     * <p>The iteration order of the returned map is the iteration order of the
+     * keys.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param keys the keys
+     * @return a map of keys to their matching message (or the key itself if no
+     * message is found)
+     * @throws NullPointerException the locale, the key collection or one of
+     * the keys is null
+     */
+    public Map<String, String> getMessages(final Locale locale,
+        final Collection<String> keys)
+    {
+        BUNDLE.checkNotNull(keys, "query.nullKeys");
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+
+        final MessageSource[] sources = resolveSources(locale);
+        final Map<String, String> ret
+            = new LinkedHashMap<String, String>(keys.size() * 4 / 3 + 1);
+        String message;
+
+        for (final String key: keys) {
+            BUNDLE.checkNotNull(key, "query.nullKey");
+            message = lookup(sources, key);
+            ret.put(key, message == null ? key : message);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Get the current locale
+     *
+     * <p>See the class description.</p>
+     *
+     * @return the current locale
+     */
+    Locale currentLocale()
+    {
+        final Locale ret = LocaleContext.get();
+        if (ret != null)
+            return ret;
+        return defaultLocale != null ? defaultLocale : Locale.getDefault();
+    }
+
+    /**
+     * Get the current generation of this bundle
+     *
+     * <p>This is the sum of the generations of all {@link
+     * DynamicMessageSourceProvider}s in this bundle. As these generations never
+     * decrease, this sum changes whenever one of them changes.</p>
+     *
+     * @return the generation
+     */
+    long generation()
+    {
+        long ret = 0L;
+        for (final DynamicMessageSourceProvider provider: dynamicProviders)
+            ret += provider.getGeneration();
+        return ret;
+    }
+
+    /**
+     * Get the list of message sources to query for a given locale
+     *
+     * <p>This queries all providers for all applicable locales, in the same
+     * order as {@link #getMessage(Locale, String)} does. If this bundle only
+     * has static providers, the result is computed once per locale.</p>
+     *
+     * @param locale the locale
+     * @return an array of message sources (not to be modified)
+     */
+    MessageSource[] resolveSources(final Locale locale)
+    {
+        if (staticSources == null)
+            return computeSources(locale);
+
+        MessageSource[] ret = staticSources.get(locale);
+
+        if (ret == null) {
+            ret = computeSources(locale);
+            if (staticSources.size() < MAX_CACHED_LOCALES)
+                staticSources.putIfAbsent(locale, ret);
+        }
+
+        return ret;
+    }
+
+    private MessageSource[] computeSources(final Locale locale)
+    {
+        final List<MessageSource> list = new ArrayList<MessageSource>();
         MessageSource source;
 
         for (final Locale l: LocaleUtils.getApplicable(locale))
             for (final MessageSourceProvider provider: providers) {
                 source = provider.getMessageSource(l);
+                if (source != null)
+                    list.add(source);
+            }
+
+        return list.isEmpty() ? NO_SOURCES
+            : list.toArray(new MessageSource[list.size()]);
+    }
+
+    /*
+     * Merge runs of consecutive static providers
+     */
+    private static List<MessageSourceProvider> collapse(
+        final List<MessageSourceProvider> list)
+    {
+        final List<MessageSourceProvider> ret
+            = new ArrayList<MessageSourceProvider>(list.size());
+        final List<StaticMessageSourceProvider> run
+            = new ArrayList<StaticMessageSourceProvider>();
+
+        for (final MessageSourceProvider provider: list) {
+            if (provider instanceof StaticMessageSourceProvider) {
+                run.add((StaticMessageSourceProvider) provider);
+                continue;
+            }
+            flushRun(ret, run);
+            ret.add(provider);
+        }
+
+        flushRun(ret, run);
+        return ret;
+    }
+
+    private static void flushRun(final List<MessageSourceProvider> list,
+        final List<StaticMessageSourceProvider> run)
+    {
+        if (run.size() == 1)
+            list.add(run.get(0));
+        else if (run.size() > 1)
+            list.add(StaticMessageSourceProvider.merge(run));
+        run.clear();
+    }
+
+    static String lookup(final MessageSource[] sources,
+        final String key)
+    {
+        String ret;
+
+        for (final MessageSource source: sources) {
+            ret = source.getKey(key);
+            if (ret != null)
+                return ret;
+        }
+
+        return null;
+    }
+
+    private String lookup(final Locale locale, final String key)
+    {
+        if (staticSources != null)
+            return lookup(resolveSources(locale), key);
+
+        /*
+         * Indexed loops only: this is the hot path, we don't want to allocate
+         * iterators
+         */
+        final List<Locale> locales = LocaleUtils.getApplicableList(locale);
+        final int nrLocales = locales.size();
+        final int nrProviders = providers.length;
+
+        String ret;
+        MessageSource source;
+        Locale l;
+
+        for (int i = 0; i < nrLocales; i++) {
+            l = locales.get(i);
+            for (int j = 0; j < nrProviders; j++) {
+                source = providers[j].getMessageSource(l);
                 if (source == null)
                     continue;
                 ret = source.getKey(key);
                 if (ret != null)
                     return ret;
             }
+        }
 
-        // No source found which has the key... Return the key itself.
-        return key;
+        return null;
     }
 
     /**
-     * Return a message for a given key, using the JVM's current locale
+     * Return a message for a given key, using the current locale
      *
      * @param key the key
      * @return a matching message if found; the key itself if no message is
      * found
      * @throws NullPointerException key is null
-     * @see Locale#getDefault()
-     * @see Locale#setDefault(Locale)
+     * @see LocaleContext
+     * @see MessageBundleBuilder#setDefaultLocale(Locale)
      */
     public String getMessage(final String key)
     {
-        return getMessage(Locale.getDefault(), key);
+        return getMessage(currentLocale(), key);
     }
 
     /**
@@ -167,19 +611,55 @@ public final class MessageBundle
     public String printf(final Locale locale, final String key,
         final Object... params)
     {
-        final String format = getMessage(locale, key);
-        try {
-            return String.format(locale, format, params);
-        } catch (IllegalFormatException ignored) {
-            return format;
+        if (printfCache == null || !PrintfKey.isCacheable(params))
+            return printfMessage(locale, getMessage(locale, key), params);
+
+        BUNDLE.checkNotNull(key, "query.nullKey");
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+
+        /*
+         * As for lookups, read the generation first
+         */
+        final long generation = generation();
+        final PrintfKey printfKey = new PrintfKey(key, params);
+        String ret = printfCache.get(generation, locale, printfKey);
+
+        if (ret == null) {
+            ret = printfMessage(locale, getMessage(locale, key), params);
+            printfCache.put(generation, locale, printfKey.copy(), ret);
+        }
+
+        return ret;
+    }
+
+    /*
+     * Format an already resolved message using printf()
+     */
+    String printfMessage(final Locale locale, final String format,
+        final Object... params)
+    {
+        return printfTemplate(format).render(locale, params);
+    }
+
+    private PrintfTemplate printfTemplate(final String format)
+    {
+        PrintfTemplate ret = printfTemplates.get(format);
+
+        if (ret == null) {
+            ret = PrintfTemplate.compile(format);
+            if (printfTemplates.size() >= MAX_CACHED_TEMPLATES)
+                printfTemplates.clear();
+            printfTemplates.putIfAbsent(format, ret);
         }
+
+        return ret;
     }
 
     /**
-     * Get a {@code printf()}-like message with the default locale
+     * Get a {@code printf()}-like message with the current locale
      *
-     * <p>This calls {@link #printf(Locale, String, Object...)} with {@link
-     * Locale#getDefault()} as the first argument.</p>
+     * <p>This calls {@link #printf(Locale, String, Object...)} with the
+     * current locale as the first argument.</p>
      *
      * @param key the key
      * @param params the format parameters
@@ -187,242 +667,1796 @@ public final class MessageBundle
      */
     public String printf(final String key, final Object... params)
     {
-        return printf(Locale.getDefault(), key, params);
+        return printf(currentLocale(), key, params);
     }
 
     /**
-     * Get a locale-dependent message formatted using {@link MessageFormat}
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@link Object} argument
      *
-     * <p>You should really consider using {@link #printf(Locale, String,
-     * Object...)} instead.</p>
+     * <p>This overload avoids the creation of a varargs array by the caller,
+     * and ensures that a primitive wrapper argument (an {@link Integer} for
+     * instance) is not unboxed to one of the primitive overloads.</p>
+     *
+     * @since 1.2
      *
      * @param locale the locale
      * @param key the key
-     * @param params the format parameters
+     * @param value the format parameter
      * @return the formatted message
+     * @see #printf(Locale, String, Object...)
      */
-    public String format(final Locale locale, final String key,
-        final Object... params)
+    public String printf(final Locale locale, final String key,
+        final Object value)
     {
-        final String pattern = getMessage(locale, key);
-        try {
-            return new MessageFormat(pattern, locale)
-                .format(params, new StringBuffer(pattern.length()), null)
-                .toString();
-        } catch (IllegalArgumentException ignored) {
-            return pattern;
-        }
+        return printf(locale, key, new Object[] { value });
     }
 
     /**
-     * Get a {@link MessageFormat} formatted message with the current default
-     * locale
+     * Get a {@code printf()}-like message with a single {@link Object} argument
+     * and the current locale
      *
-     * <p>You should really consider using {@link #printf(String, Object...)}
-     * instead.</p>
+     * @since 1.2
      *
      * @param key the key
-     * @param params the format parameters
+     * @param value the format parameter
      * @return the formatted message
+     * @see #printf(Locale, String, Object)
      */
-    public String format(final String key, final Object... params)
+    public String printf(final String key, final Object value)
     {
-        return format(Locale.getDefault(), key, params);
+        return printf(currentLocale(), key, value);
     }
 
     /**
-     * Check an object reference for {@code null} and return it
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code int} argument
      *
-     * <p>If the reference is null, a {@link NullPointerException} is thrown,
-     * with its message set according to the given locale and key.</p>
+     * <p>The result is the same as {@link #printf(Locale, String, Object...)}
+     * with the argument boxed into an {@link Integer}. No boxing occurs,
+     * however, when the message only contains {@code %s} and {@code %d}
+     * specifiers referring to this argument.</p>
      *
-     * @param reference the reference to check
-     * @param locale the locale to use
-     * @param key the key to use
-     * @param <T> type of the reference
-     * @return the reference
-     * @throws NullPointerException see description
-     * @see #getMessage(Locale, String)
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
      */
-    public <T> T checkNotNull(final T reference, final Locale locale,
-        final String key)
+    public String printf(final Locale locale, final String key,
+        final int value)
     {
-        if (reference == null)
-            throw new NullPointerException(getMessage(locale, key));
-        return reference;
+        return printfTemplate(getMessage(locale, key)).render(locale, value);
     }
 
     /**
-     * Check a reference for {@code null} and return it
+     * Get a {@code printf()}-like message with a single {@code int} argument
+     * and the current locale
      *
-     * <p>This calls {@link #checkNotNull(Object, Locale, String)} with the
-     * JVM's current locale.</p>
+     * @since 1.2
      *
-     * @param reference the reference to check
      * @param key the key
-     * @param <T> type of the reference
-     * @return the reference
-     * @throws NullPointerException see description
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, int)
      */
-    public <T> T checkNotNull(final T reference, final String key)
+    public String printf(final String key, final int value)
     {
-        return checkNotNull(reference, Locale.getDefault(), key);
+        return printf(currentLocale(), key, value);
     }
 
     /**
-     * Check for a condition
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code long} argument
      *
-     * <p>When the condition is false, an {@link IllegalArgumentException} is
-     * thrown with its message set using the given locale and key.</p>
+     * <p>The result is the same as {@link #printf(Locale, String, Object...)}
+     * with the argument boxed into a {@link Long}. No boxing occurs, however,
+     * when the message only contains {@code %s} and {@code %d} specifiers
+     * referring to this argument.</p>
      *
-     * @param condition the condition to check
-     * @param locale the locale to use
+     * @since 1.2
+     *
+     * @param locale the locale
      * @param key the key
-     * @throws IllegalArgumentException see description
-     * @see #getMessage(Locale, String)
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
      */
-    public void checkArgument(final boolean condition, final Locale locale,
-        final String key)
+    public String printf(final Locale locale, final String key,
+        final long value)
     {
-        if (!condition)
-            throw new IllegalArgumentException(getMessage(locale, key));
+        return printfTemplate(getMessage(locale, key)).render(locale, value);
     }
 
     /**
-     * Check for a condition
+     * Get a {@code printf()}-like message with a single {@code long} argument
+     * and the current locale
      *
-     * <p>This calls {@link #checkArgument(boolean, Locale, String)} using the
-     * JVM's current locale.</p>
+     * @since 1.2
      *
-     * @param condition the condition to check
      * @param key the key
-     * @throws IllegalArgumentException see description
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, long)
      */
-    public void checkArgument(final boolean condition, final String key)
+    public String printf(final String key, final long value)
     {
-        checkArgument(condition, Locale.getDefault(), key);
+        return printf(currentLocale(), key, value);
     }
 
     /**
-     * Check a reference for {@code null} and return it
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code double} argument
      *
-     * <p>Like {@link #checkNotNull(Object, Locale, String)}, except that this
-     * will use {@link #printf(Locale, String, Object...)}</p>
+     * <p>The result is the same as {@link #printf(Locale, String, Object...)}
+     * with the argument boxed into a {@link Double}. No boxing occurs,
+     * however, when the message only contains {@code %s} specifiers referring
+     * to this argument.</p>
      *
-     * @param reference the reference to check
-     * @param locale the locale to use
+     * @since 1.2
+     *
+     * @param locale the locale
      * @param key the key
-     * @param params arguments for the format string
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
+     */
+    public String printf(final Locale locale, final String key,
+        final double value)
+    {
+        return printfTemplate(getMessage(locale, key)).render(locale, value);
+    }
+
+    /**
+     * Get a {@code printf()}-like message with a single {@code double} argument
+     * and the current locale
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, double)
+     */
+    public String printf(final String key, final double value)
+    {
+        return printf(currentLocale(), key, value);
+    }
+
+    /**
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code char} argument
+     *
+     * <p>This overload only exists so that {@code char} arguments are not
+     * widened to {@code int}; the argument is boxed into a {@link
+     * Character}.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
+     */
+    public String printf(final Locale locale, final String key,
+        final char value)
+    {
+        return printf(locale, key, new Object[] { value });
+    }
+
+    /**
+     * Get a {@code printf()}-like message with a single {@code char} argument
+     * and the current locale
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, char)
+     */
+    public String printf(final String key, final char value)
+    {
+        return printf(currentLocale(), key, value);
+    }
+
+    /**
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code byte} argument
+     *
+     * <p>This overload only exists so that {@code byte} arguments are not
+     * widened to {@code int}, which would change the output of specifiers
+     * such as {@code %x} for negative values; the argument is boxed into a
+     * {@link Byte}.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
+     */
+    public String printf(final Locale locale, final String key,
+        final byte value)
+    {
+        return printf(locale, key, new Object[] { value });
+    }
+
+    /**
+     * Get a {@code printf()}-like message with a single {@code byte} argument
+     * and the current locale
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, byte)
+     */
+    public String printf(final String key, final byte value)
+    {
+        return printf(currentLocale(), key, value);
+    }
+
+    /**
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code short} argument
+     *
+     * <p>This overload only exists so that {@code short} arguments are not
+     * widened to {@code int}, which would change the output of specifiers
+     * such as {@code %x} for negative values; the argument is boxed into a
+     * {@link Short}.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
+     */
+    public String printf(final Locale locale, final String key,
+        final short value)
+    {
+        return printf(locale, key, new Object[] { value });
+    }
+
+    /**
+     * Get a {@code printf()}-like message with a single {@code short} argument
+     * and the current locale
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, short)
+     */
+    public String printf(final String key, final short value)
+    {
+        return printf(currentLocale(), key, value);
+    }
+
+    /**
+     * Get a locale-dependent {@code printf()}-like formatted message with a
+     * single {@code float} argument
+     *
+     * <p>This overload only exists so that {@code float} arguments are not
+     * widened to {@code double}; the argument is boxed into a {@link
+     * Float}.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, Object...)
+     */
+    public String printf(final Locale locale, final String key,
+        final float value)
+    {
+        return printf(locale, key, new Object[] { value });
+    }
+
+    /**
+     * Get a {@code printf()}-like message with a single {@code float} argument
+     * and the current locale
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param value the format parameter
+     * @return the formatted message
+     * @see #printf(Locale, String, float)
+     */
+    public String printf(final String key, final float value)
+    {
+        return printf(currentLocale(), key, value);
+    }
+
+    /**
+     * Get a locale-dependent message formatted using {@link MessageFormat}
+     *
+     * <p>You should really consider using {@link #printf(Locale, String,
+     * Object...)} instead.</p>
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param params the format parameters
+     * @return the formatted message
+     */
+    public String format(final Locale locale, final String key,
+        final Object... params)
+    {
+        return formatMessage(locale, getMessage(locale, key), params);
+    }
+
+    /*
+     * Format an already resolved message using MessageFormat
+     */
+    String formatMessage(final Locale locale, final String pattern,
+        final Object... params)
+    {
+        final StringBuffer sb = new StringBuffer(pattern.length());
+
+        return messageFormats.format(locale, pattern, params, sb)
+            ? sb.toString() : pattern;
+    }
+
+    /**
+     * Get a {@link MessageFormat} formatted message with the current locale
+     *
+     * <p>You should really consider using {@link #printf(String, Object...)}
+     * instead.</p>
+     *
+     * @param key the key
+     * @param params the format parameters
+     * @return the formatted message
+     */
+    public String format(final String key, final Object... params)
+    {
+        return format(currentLocale(), key, params);
+    }
+
+    /**
+     * Write a locale-dependent {@code printf()}-like formatted message to an
+     * {@link Appendable}
+     *
+     * <p>The output is the same as what {@link #printf(Locale, String,
+     * Object...)} returns, but no intermediate string is created when the
+     * format only uses plain {@code %s} and {@code %d} specifiers.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param locale the locale
+     * @param key the key
+     * @param params the format parameters
+     * @throws IOException failed to write to the appendable
+     */
+    public void printfTo(final Appendable out, final Locale locale,
+        final String key, final Object... params)
+        throws IOException
+    {
+        BUNDLE.checkNotNull(out, "query.nullAppendable");
+        printfTemplate(getMessage(locale, key)).renderTo(out, locale, params);
+    }
+
+    /**
+     * Write a {@code printf()}-like message with the current locale to an
+     * {@link Appendable}
+     *
+     * <p>This calls {@link #printfTo(Appendable, Locale, String, Object...)}
+     * with the current locale as the second argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param key the key
+     * @param params the format parameters
+     * @throws IOException failed to write to the appendable
+     */
+    public void printfTo(final Appendable out, final String key,
+        final Object... params)
+        throws IOException
+    {
+        printfTo(out, currentLocale(), key, params);
+    }
+
+    /**
+     * Write a locale-dependent message formatted using {@link MessageFormat}
+     * to an {@link Appendable}
+     *
+     * <p>The output is the same as what {@link #format(Locale, String,
+     * Object...)} returns.</p>
+     *
+     * <p>Note that {@link MessageFormat} can only write to a {@link
+     * StringBuffer}: only if the appendable is a {@code StringBuffer} is the
+     * message formatted directly into it. For any other appendable (including
+     * a {@link StringBuilder} or a {@link java.io.Writer}), the message is
+     * formatted into an intermediate buffer, which is then copied; this costs
+     * the same allocations as {@link #format(Locale, String, Object...)}.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param locale the locale
+     * @param key the key
+     * @param params the format parameters
+     * @throws IOException failed to write to the appendable
+     */
+    public void formatTo(final Appendable out, final Locale locale,
+        final String key, final Object... params)
+        throws IOException
+    {
+        BUNDLE.checkNotNull(out, "query.nullAppendable");
+
+        final String pattern = getMessage(locale, key);
+        final StringBuffer sb = out instanceof StringBuffer
+            ? (StringBuffer) out : new StringBuffer(pattern.length());
+
+        if (!messageFormats.format(locale, pattern, params, sb))
+            sb.append(pattern);
+
+        if (sb != out)
+            out.append(sb);
+    }
+
+    /**
+     * Write a {@link MessageFormat} formatted message with the current locale
+     * to an {@link Appendable}
+     *
+     * <p>This calls {@link #formatTo(Appendable, Locale, String, Object...)}
+     * with the current locale as the second argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param key the key
+     * @param params the format parameters
+     * @throws IOException failed to write to the appendable
+     */
+    public void formatTo(final Appendable out, final String key,
+        final Object... params)
+        throws IOException
+    {
+        formatTo(out, currentLocale(), key, params);
+    }
+
+    /**
+     * Get several locale-dependent {@code printf()}-like formatted messages
+     *
+     * <p>This is equivalent to calling {@link #printf(Locale, String,
+     * Object...)} for each request, except that providers are only queried
+     * once for all applicable locales, instead of once per request.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param requests the requests
+     * @return the formatted messages, in the order of the requests
+     * @throws NullPointerException the locale, the request list or one of the
+     * requests is null
+     */
+    public String[] printfAll(final Locale locale,
+        final List<MessageRequest> requests)
+    {
+        BUNDLE.checkNotNull(requests, "query.nullRequests");
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+
+        final MessageSource[] sources = resolveSources(locale);
+        final int size = requests.size();
+        final String[] ret = new String[size];
+
+        MessageRequest request;
+        String message;
+        for (int i = 0; i < size; i++) {
+            request = requests.get(i);
+            BUNDLE.checkNotNull(request, "query.nullRequest");
+            message = lookup(sources, request.key);
+            ret[i] = printfTemplate(message == null ? request.key : message)
+                .render(locale, request.params);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Get several {@code printf()}-like formatted messages with the current
+     * locale
+     *
+     * <p>This calls {@link #printfAll(Locale, List)} with the current locale as
+     * the first argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param requests the requests
+     * @return the formatted messages, in the order of the requests
+     * @throws NullPointerException the request list or one of the requests is
+     * null
+     */
+    public String[] printfAll(final List<MessageRequest> requests)
+    {
+        return printfAll(currentLocale(), requests);
+    }
+
+    /**
+     * Write several locale-dependent {@code printf()}-like formatted messages
+     * to an {@link Appendable}
+     *
+     * <p>This is equivalent to calling {@link #printfTo(Appendable, Locale,
+     * String, Object...)} for each request and writing the separator between
+     * messages, except that providers are only queried once for all
+     * applicable locales, instead of once per request.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param locale the locale
+     * @param requests the requests
+     * @param separator the separator to write between messages
+     * @throws IOException failed to write to the appendable
+     * @throws NullPointerException one argument, or one of the requests, is
+     * null
+     */
+    public void printfAll(final Appendable out, final Locale locale,
+        final List<MessageRequest> requests, final CharSequence separator)
+        throws IOException
+    {
+        BUNDLE.checkNotNull(out, "query.nullAppendable");
+        BUNDLE.checkNotNull(requests, "query.nullRequests");
+        BUNDLE.checkNotNull(separator, "query.nullSeparator");
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+
+        final MessageSource[] sources = resolveSources(locale);
+        final int size = requests.size();
+
+        MessageRequest request;
+        String message;
+        for (int i = 0; i < size; i++) {
+            request = requests.get(i);
+            BUNDLE.checkNotNull(request, "query.nullRequest");
+            if (i > 0)
+                out.append(separator);
+            message = lookup(sources, request.key);
+            printfTemplate(message == null ? request.key : message)
+                .renderTo(out, locale, request.params);
+        }
+    }
+
+    /**
+     * Write several {@code printf()}-like formatted messages with the current
+     * locale to an {@link Appendable}
+     *
+     * <p>This calls {@link #printfAll(Appendable, Locale, List, CharSequence)}
+     * with the current locale as the second argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param out the appendable to write to
+     * @param requests the requests
+     * @param separator the separator to write between messages
+     * @throws IOException failed to write to the appendable
+     * @throws NullPointerException one argument, or one of the requests, is
+     * null
+     */
+    public void printfAll(final Appendable out,
+        final List<MessageRequest> requests, final CharSequence separator)
+        throws IOException
+    {
+        printfAll(out, currentLocale(), requests, separator);
+    }
+
+    /**
+     * Get a locale-dependent message with {@code {0}}-like placeholders
+     * replaced by positional arguments
+     *
+     * <p>This is a much lighter alternative to {@link #format(Locale, String,
+     * Object...)} for messages which only need to substitute values: a
+     * placeholder is a brace-enclosed sequence of ASCII letters, digits,
+     * underscores, dashes or dots, and its value is rendered using {@link
+     * String#valueOf(Object)}. Arguments are numbered from 0; placeholders
+     * with no matching argument (including named placeholders) are left
+     * unchanged. Braces which are not part of a placeholder are left as is.
+     * </p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param args the arguments
+     * @return the interpolated message
+     * @see #interpolate(Locale, String, Map)
+     */
+    public String interpolate(final Locale locale, final String key,
+        final Object... args)
+    {
+        return interpolationTemplate(getMessage(locale, key)).render(args);
+    }
+
+    /**
+     * Get a message with {@code {0}}-like placeholders replaced by positional
+     * arguments, with the current locale
+     *
+     * <p>This calls {@link #interpolate(Locale, String, Object...)} with the
+     * current locale as the first argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param args the arguments
+     * @return the interpolated message
+     */
+    public String interpolate(final String key, final Object... args)
+    {
+        return interpolate(currentLocale(), key, args);
+    }
+
+    /**
+     * Get a locale-dependent message with {@code {name}}-like placeholders
+     * replaced by named arguments
+     *
+     * <p>This works like {@link #interpolate(Locale, String, Object...)},
+     * except that placeholders are looked up in a map (for positional
+     * placeholders, the key is the placeholder's digits). A placeholder is
+     * left unchanged if the map does not contain its name; a {@code null}
+     * value is rendered as {@code "null"}.</p>
+     *
+     * @since 1.2
+     *
+     * @param locale the locale
+     * @param key the key
+     * @param args the arguments
+     * @return the interpolated message
+     * @throws NullPointerException argument map is null
+     */
+    public String interpolate(final Locale locale, final String key,
+        final Map<String, ?> args)
+    {
+        BUNDLE.checkNotNull(args, "query.nullMap");
+        return interpolationTemplate(getMessage(locale, key)).render(args);
+    }
+
+    /**
+     * Get a message with {@code {name}}-like placeholders replaced by named
+     * arguments, with the current locale
+     *
+     * <p>This calls {@link #interpolate(Locale, String, Map)} with the current
+     * locale as the first argument.</p>
+     *
+     * @since 1.2
+     *
+     * @param key the key
+     * @param args the arguments
+     * @return the interpolated message
+     * @throws NullPointerException argument map is null
+     */
+    public String interpolate(final String key, final Map<String, ?> args)
+    {
+        return interpolate(currentLocale(), key, args);
+    }
+
+    private InterpolationTemplate interpolationTemplate(final String message)
+    {
+        InterpolationTemplate ret = interpolationTemplates.get(message);
+
+        if (ret == null) {
+            ret = InterpolationTemplate.compile(message);
+            if (interpolationTemplates.size() >= MAX_CACHED_TEMPLATES)
+                interpolationTemplates.clear();
+            interpolationTemplates.putIfAbsent(message, ret);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Check an object reference for {@code null} and return it
+     *
+     * <p>If the reference is null, a {@link NullPointerException} is thrown,
+     * with its message set according to the given locale and key.</p>
+     *
+     * @param reference the reference to check
+     * @param locale the locale to use
+     * @param key the key to use
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException see description
+     * @see #getMessage(Locale, String)
+     */
+    public <T> T checkNotNull(final T reference, final Locale locale,
+        final String key)
+    {
+        if (reference == null)
+            throw new NullPointerException(getMessage(locale, key));
+        return reference;
+    }
+
+    /**
+     * Check a reference for {@code null} and return it
+     *
+     * <p>This is equivalent to calling {@link #checkNotNull(Object, Locale,
+     * String)} with the current locale; the current locale is only determined
+     * if the check fails.</p>
+     *
+     * @param reference the reference to check
+     * @param key the key
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException see description
+     */
+    public <T> T checkNotNull(final T reference, final String key)
+    {
+        if (reference == null)
+            throw new NullPointerException(getMessage(currentLocale(), key));
+        return reference;
+    }
+
+    /**
+     * Check for a condition
+     *
+     * <p>When the condition is false, an {@link IllegalArgumentException} is
+     * thrown with its message set using the given locale and key.</p>
+     *
+     * @param condition the condition to check
+     * @param locale the locale to use
+     * @param key the key
+     * @throws IllegalArgumentException see description
+     * @see #getMessage(Locale, String)
+     */
+    public void checkArgument(final boolean condition, final Locale locale,
+        final String key)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(getMessage(locale, key));
+    }
+
+    /**
+     * Check for a condition
+     *
+     * <p>This is equivalent to calling {@link #checkArgument(boolean, Locale,
+     * String)} with the current locale; the current locale is only determined
+     * if the check fails.</p>
+     *
+     * @param condition the condition to check
+     * @param key the key
+     * @throws IllegalArgumentException see description
+     */
+    public void checkArgument(final boolean condition, final String key)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(getMessage(currentLocale(),
+                key));
+    }
+
+    /**
+     * Check a reference for {@code null} and return it
+     *
+     * <p>Like {@link #checkNotNull(Object, Locale, String)}, except that this
+     * will use {@link #printf(Locale, String, Object...)}</p>
+     *
+     * @param reference the reference to check
+     * @param locale the locale to use
+     * @param key the key
+     * @param params arguments for the format string
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException see description
+     * @see #printf(Locale, String, Object...)
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(printf(locale, key, params));
+        return reference;
+    }
+
+    /**
+     * Check a reference for {@code null} and return it
+     *
+     * <p>This is equivalent to calling {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)} with the current
+     * locale; the current locale is only determined if the check fails.</p>
+     *
+     * @param reference the reference
+     * @param key the key
+     * @param params arguments for the format string
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException see description
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(printf(currentLocale(), key,
+                params));
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final Object arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final Object arg1, final Object arg2)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg1, arg2);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final Object arg1, final Object arg2,
+        final Object arg3)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg1, arg2, arg3);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final int arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final long arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final double arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final float arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final char arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final byte arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
+        final String key, final short arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final Object arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final Object arg1, final Object arg2)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(
+                this, currentLocale(), key, arg1, arg2);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final Object arg1, final Object arg2, final Object arg3)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(
+                this, currentLocale(), key, arg1, arg2, arg3);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final int arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final long arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final double arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final float arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final char arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final byte arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullPrintf(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullPrintf(final T reference, final String key,
+        final short arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullPrintf(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Check for a condition
+     *
+     * <p>Like {@link #checkArgument(boolean, Locale, String)}, except that
+     * {@link #printf(Locale, String, Object...)} is used to fill the message.
+     * </p>
+     *
+     * @param condition the condition to check
+     * @param locale the locale
+     * @param key the key
+     * @param params arguments for the format string
+     * @throws IllegalArgumentException see description
+     * @see #printf(Locale, String, Object...)
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final Object... params)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(printf(locale, key, params));
+    }
+
+    /**
+     * Check for a condition
+     *
+     * <p>This is equivalent to calling {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)} with the
+     * current locale; the current locale is only determined if the check
+     * fails.</p>
+     *
+     * @param condition the condition to check
+     * @param key the key
+     * @param params arguments for the format string
+     * @throws IllegalArgumentException see description
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final Object... params)
+    {
+        if (!condition)
+            throw new IllegalArgumentException(printf(currentLocale(), key,
+                params));
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final Object arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final Object arg1,
+        final Object arg2)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg1, arg2);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final Object arg1,
+        final Object arg2, final Object arg3)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(
+                this, locale, key, arg1, arg2, arg3);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final int arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final long arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final double arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final float arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final char arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final byte arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition,
+        final Locale locale, final String key, final short arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final Object arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final Object arg1, final Object arg2)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(
+                this, currentLocale(), key, arg1, arg2);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final Object arg1, final Object arg2, final Object arg3)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(
+                this, currentLocale(), key, arg1, arg2, arg3);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final int arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final long arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final double arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final float arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final char arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final byte arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentPrintf(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentPrintf(final boolean condition, final String key,
+        final short arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalPrintf(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Check a reference for {@code null} and return it
+     *
+     * <p>Like {@link #checkNotNull(Object, Locale, String)}, except that this
+     * will use {@link #format(Locale, String, Object...)}}</p>
+     *
+     * @param reference the reference to check
+     * @param locale the locale to use
+     * @param key the key
+     * @param params arguments for the format string
      * @param <T> type of the reference
      * @return the reference
      * @throws NullPointerException see description
-     * @see #printf(Locale, String, Object...)
+     * @see #format(Locale, String, Object...)
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(format(locale, key, params));
+        return reference;
+    }
+
+    /**
+     * Check a reference for {@code null} and return it
+     *
+     * <p>This is equivalent to calling {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)} with the current
+     * locale; the current locale is only determined if the check fails.</p>
+     *
+     * @param reference the reference
+     * @param key the key
+     * @param params arguments for the format string
+     * @param <T> type of the reference
+     * @return the reference
+     * @throws NullPointerException see description
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final Object... params)
+    {
+        if (reference == null)
+            throw new NullPointerException(format(currentLocale(), key,
+                params));
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final Object arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final Object arg1, final Object arg2)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg1, arg2);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final Object arg1, final Object arg2,
+        final Object arg3)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg1, arg2, arg3);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final int arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final long arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final double arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final float arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final char arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final byte arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final Locale locale,
+        final String key, final short arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, locale, key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final Object arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
-    public <T> T checkNotNullPrintf(final T reference, final Locale locale,
-        final String key, final Object... params)
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final Object arg1, final Object arg2)
     {
         if (reference == null)
-            throw new NullPointerException(printf(locale, key, params));
+            throw FailedChecks.nullFormat(
+                this, currentLocale(), key, arg1, arg2);
         return reference;
     }
 
     /**
-     * Check a reference for {@code null} and return it
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * <p>This calls {@link #checkNotNullPrintf(Object, Locale, String,
-     * Object...)} with the JVM's current locale.</p>
-     *
-     * @param reference the reference
-     * @param key the key
-     * @param params arguments for the format string
-     * @param <T> type of the reference
-     * @return the reference
-     * @throws NullPointerException see description
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
-    public <T> T checkNotNullPrintf(final T reference, final String key,
-        final Object... params)
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final Object arg1, final Object arg2, final Object arg3)
     {
-        return checkNotNullPrintf(reference, Locale.getDefault(), key, params);
+        if (reference == null)
+            throw FailedChecks.nullFormat(
+                this, currentLocale(), key, arg1, arg2, arg3);
+        return reference;
     }
 
     /**
-     * Check for a condition
-     *
-     * <p>Like {@link #checkArgument(boolean, Locale, String)}, except that
-     * {@link #printf(Locale, String, Object...)} is used to fill the message.
-     * </p>
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * @param condition the condition to check
-     * @param locale the locale
-     * @param key the key
-     * @param params arguments for the format string
-     * @throws IllegalArgumentException see description
-     * @see #printf(Locale, String, Object...)
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
-    public void checkArgumentPrintf(final boolean condition,
-        final Locale locale, final String key, final Object... params)
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final int arg)
     {
-        if (!condition)
-            throw new IllegalArgumentException(printf(locale, key, params));
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
     }
 
     /**
-     * Check for a condition
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * <p>This calls {@link #checkArgumentPrintf(boolean, Locale, String,
-     * Object...)} with the JVM's current locale.</p>
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final long arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * @param condition the condition to check
-     * @param key the key
-     * @param params arguments for the format string
-     * @throws IllegalArgumentException see description
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
-    public void checkArgumentPrintf(final boolean condition, final String key,
-        final Object... params)
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final double arg)
     {
-        checkArgumentPrintf(condition, Locale.getDefault(), key, params);
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
     }
 
     /**
-     * Check a reference for {@code null} and return it
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * <p>Like {@link #checkNotNull(Object, Locale, String)}, except that this
-     * will use {@link #format(Locale, String, Object...)}}</p>
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final float arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * @param reference the reference to check
-     * @param locale the locale to use
-     * @param key the key
-     * @param params arguments for the format string
-     * @param <T> type of the reference
-     * @return the reference
-     * @throws NullPointerException see description
-     * @see #format(Locale, String, Object...)
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
-    public <T> T checkNotNullFormat(final T reference, final Locale locale,
-        final String key, final Object... params)
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final char arg)
     {
         if (reference == null)
-            throw new NullPointerException(format(locale, key, params));
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
         return reference;
     }
 
     /**
-     * Check a reference for {@code null} and return it
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * <p>This calls {@link #checkNotNullFormat(Object, Locale, String,
-     * Object...)} with the JVM's current locale.</p>
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public <T> T checkNotNullFormat(final T reference, final String key,
+        final byte arg)
+    {
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkNotNullFormat(Object, String, Object...)}
      *
-     * @param reference the reference
-     * @param key the key
-     * @param params arguments for the format string
-     * @param <T> type of the reference
-     * @return the reference
-     * @throws NullPointerException see description
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
      */
     public <T> T checkNotNullFormat(final T reference, final String key,
-        final Object... params)
+        final short arg)
     {
-        return checkNotNullFormat(reference, Locale.getDefault(), key, params);
+        if (reference == null)
+            throw FailedChecks.nullFormat(this, currentLocale(), key, arg);
+        return reference;
     }
 
     /**
@@ -449,8 +2483,10 @@ public final class MessageBundle
     /**
      * Check for a condition
      *
-     * <p>This calls {@link #checkArgumentFormat(boolean, Locale, String,
-     * Object...)} with the JVM's current locale.</p>
+     * <p>This is equivalent to calling {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)} with the
+     * current locale; the current locale is only determined if the check
+     * fails.</p>
      *
      * @param condition the condition to check
      * @param key the key
@@ -460,7 +2496,294 @@ public final class MessageBundle
     public void checkArgumentFormat(final boolean condition, final String key,
         final Object... params)
     {
-        checkArgumentFormat(condition, Locale.getDefault(), key, params);
+        if (!condition)
+            throw new IllegalArgumentException(format(currentLocale(), key,
+                params));
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final Object arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final Object arg1,
+        final Object arg2)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg1, arg2);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final Object arg1,
+        final Object arg2, final Object arg3)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(
+                this, locale, key, arg1, arg2, arg3);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final int arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final long arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final double arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final float arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final char arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final byte arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, Locale, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition,
+        final Locale locale, final String key, final short arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, locale, key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final Object arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final Object arg1, final Object arg2)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(
+                this, currentLocale(), key, arg1, arg2);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final Object arg1, final Object arg2, final Object arg3)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(
+                this, currentLocale(), key, arg1, arg2, arg3);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final int arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final long arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final double arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final float arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final char arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final byte arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
+    }
+
+    /**
+     * Fixed-arity overload of {@link
+     * #checkArgumentFormat(boolean, String, Object...)}
+     *
+     * @since 1.2
+     * @see MessageBundle fixed-arity check methods
+     */
+    public void checkArgumentFormat(final boolean condition, final String key,
+        final short arg)
+    {
+        if (!condition)
+            throw FailedChecks.illegalFormat(this, currentLocale(), key, arg);
     }
 
     @Override
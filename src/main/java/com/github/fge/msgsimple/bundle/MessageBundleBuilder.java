@@ -21,11 +21,14 @@ package com.github.fge.msgsimple.bundle;
 
 import com.github.fge.Thawed;
 import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.locale.LocaleContext;
+import com.github.fge.msgsimple.provider.DynamicMessageSourceProvider;
 import com.github.fge.msgsimple.provider.MessageSourceProvider;
 import com.github.fge.msgsimple.provider.StaticMessageSourceProvider;
 import com.github.fge.msgsimple.source.MessageSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -50,13 +53,22 @@ public final class MessageBundleBuilder
     final List<MessageSourceProvider> providers
         = new ArrayList<MessageSourceProvider>();
 
+    Locale defaultLocale = null;
+    int cacheSize = 0;
+    int missCacheSize = 0;
+    int printfCacheSize = 0;
+
     MessageBundleBuilder()
     {
     }
 
     MessageBundleBuilder(final MessageBundle bundle)
     {
-        providers.addAll(bundle.providers);
+        providers.addAll(Arrays.asList(bundle.providers));
+        defaultLocale = bundle.defaultLocale;
+        cacheSize = bundle.cacheSize;
+        missCacheSize = bundle.missCacheSize;
+        printfCacheSize = bundle.printfCacheSize;
     }
 
     /**
@@ -161,7 +173,7 @@ public final class MessageBundleBuilder
     public MessageBundleBuilder appendBundle(final MessageBundle bundle)
     {
         BUNDLE.checkNotNull(bundle, "cfg.nullBundle");
-        providers.addAll(bundle.providers);
+        providers.addAll(Arrays.asList(bundle.providers));
         return this;
     }
 
@@ -177,13 +189,115 @@ public final class MessageBundleBuilder
         BUNDLE.checkNotNull(bundle, "cfg.nullBundle");
         final List<MessageSourceProvider> list
             = new ArrayList<MessageSourceProvider>();
-        list.addAll(bundle.providers);
+        list.addAll(Arrays.asList(bundle.providers));
         list.addAll(providers);
         providers.clear();
         providers.addAll(list);
         return this;
     }
 
+    /**
+     * Set the default locale of the bundle
+     *
+     * <p>This locale is used by the methods of the bundle which do not take a
+     * locale as an argument, unless a locale is bound to the current thread
+     * (see {@link LocaleContext}). If not set, the JVM's default locale is
+     * used.</p>
+     *
+     * @since 1.2
+     *
+     * @param defaultLocale the default locale
+     * @return this
+     * @throws NullPointerException locale is null
+     */
+    public MessageBundleBuilder setDefaultLocale(final Locale defaultLocale)
+    {
+        BUNDLE.checkNotNull(defaultLocale, "cfg.nullDefaultLocale");
+        this.defaultLocale = defaultLocale;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of resolved messages cached by the bundle
+     *
+     * <p>By default, the bundle does not cache anything, and each lookup walks
+     * all providers for all applicable locales. With a cache, a message found
+     * for a given locale/key pair is remembered, so that further lookups only
+     * cost one cache probe.</p>
+     *
+     * <p>When the maximum size is exceeded, the whole cache is discarded.</p>
+     *
+     * @since 1.2
+     *
+     * @param cacheSize the maximum number of cached entries; 0 to disable
+     * @return this
+     * @throws IllegalArgumentException size is negative
+     */
+    public MessageBundleBuilder setCacheSize(final int cacheSize)
+    {
+        BUNDLE.checkArgument(cacheSize >= 0, "cfg.negativeCacheSize");
+        this.cacheSize = cacheSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of missing messages remembered by the bundle
+     *
+     * <p>When a key is not found, the bundle has to query all providers for
+     * all applicable locales before returning the key itself. With this cache
+     * enabled, further lookups of the same locale/key pair only cost one cache
+     * probe.</p>
+     *
+     * <p>As for {@link #setCacheSize(int)}, the cache is discarded when its
+     * maximum size is exceeded, or when a {@link
+     * DynamicMessageSourceProvider} of the bundle changes generation.</p>
+     *
+     * @since 1.2
+     *
+     * @param missCacheSize the maximum number of cached entries; 0 to disable
+     * @return this
+     * @throws IllegalArgumentException size is negative
+     */
+    public MessageBundleBuilder setMissCacheSize(final int missCacheSize)
+    {
+        BUNDLE.checkArgument(missCacheSize >= 0, "cfg.negativeCacheSize");
+        this.missCacheSize = missCacheSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of {@code printf()} results remembered by the
+     * bundle
+     *
+     * <p>With this cache enabled, {@link MessageBundle#printf(Locale, String,
+     * Object...)} remembers the message it produced for a given locale, key
+     * and list of parameters, provided that all parameters are strings, boxed
+     * primitives or enum constants (or {@code null}); further calls with equal
+     * parameters return the same message without formatting anything. This
+     * is only useful if the same parameters are used over and over again.</p>
+     *
+     * <p>As for {@link #setCacheSize(int)}, the cache is discarded when its
+     * maximum size is exceeded, or when a {@link
+     * DynamicMessageSourceProvider} of the bundle changes generation.</p>
+     *
+     * <p>Note that the result of formatting an enum constant depends on its
+     * {@link Enum#toString()} method, which is assumed to always return the
+     * same value.</p>
+     *
+     * @since 1.2
+     *
+     * @param printfCacheSize the maximum number of cached entries; 0 to
+     * disable
+     * @return this
+     * @throws IllegalArgumentException size is negative
+     */
+    public MessageBundleBuilder setPrintfCacheSize(final int printfCacheSize)
+    {
+        BUNDLE.checkArgument(printfCacheSize >= 0, "cfg.negativeCacheSize");
+        this.printfCacheSize = printfCacheSize;
+        return this;
+    }
+
     @Override
     public MessageBundle freeze()
     {
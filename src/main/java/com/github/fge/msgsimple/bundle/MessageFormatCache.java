@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded cache of parsed {@link MessageFormat} instances, indexed by locale
+ * and pattern
+ *
+ * <p>{@link MessageFormat} is not thread safe, so this cache holds prototypes
+ * which are cloned before use. The only exception is patterns with no
+ * subformats at all (for instance, {@code "Hello {0}"}): formatting then does
+ * not modify any state, and the prototype is handed out directly.</p>
+ *
+ * <p>Patterns which {@link MessageFormat} refuses are remembered as well, so
+ * that they are not parsed again.</p>
+ *
+ * <p>When formatting with a pattern with no subformats, {@link MessageFormat}
+ * creates a new {@link NumberFormat} or {@link DateFormat} for each {@link
+ * Number} or {@link Date} argument. {@link #format(Locale, String, Object[],
+ * StringBuffer)} avoids this by formatting these arguments beforehand, using
+ * the formats of {@link LocaleFormats}.</p>
+ *
+ * <p>When the maximum number of entries is reached, the whole cache is
+ * discarded, as is done by lookup caches.</p>
+ */
+@ThreadSafe
+final class MessageFormatCache
+{
+    private static final Prototype INVALID = new Prototype(null, false);
+
+    private final int maxSize;
+    private final AtomicInteger size = new AtomicInteger();
+    private final ConcurrentMap<Locale, ConcurrentMap<String, Prototype>>
+        entries
+        = new ConcurrentHashMap<Locale, ConcurrentMap<String, Prototype>>();
+
+    MessageFormatCache(final int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Format a message into a buffer
+     *
+     * <p>If formatting fails, the buffer is left untouched.</p>
+     *
+     * @param locale the locale
+     * @param pattern the pattern
+     * @param params the arguments
+     * @param sb the buffer
+     * @return false if the pattern is invalid or formatting failed
+     */
+    boolean format(final Locale locale, final String pattern,
+        final Object[] params, final StringBuffer sb)
+    {
+        final Prototype prototype = prototype(locale, pattern);
+
+        if (prototype.format == null)
+            return false;
+
+        final MessageFormat format = prototype.newInstance();
+        final Object[] args = prototype.shared ? preformat(locale, params)
+            : params;
+        final int length = sb.length();
+
+        /*
+         * MessageFormat may have written part of the message when it fails
+         */
+        try {
+            format.format(args, sb, null);
+            return true;
+        } catch (IllegalArgumentException ignored) {
+            sb.setLength(length);
+            return false;
+        }
+    }
+
+    /**
+     * Return the number of cached patterns, valid or not
+     *
+     * @return the number of entries
+     */
+    int size()
+    {
+        return size.get();
+    }
+
+    private Prototype prototype(final Locale locale, final String pattern)
+    {
+        ConcurrentMap<String, Prototype> map = entries.get(locale);
+        Prototype prototype = map == null ? null : map.get(pattern);
+
+        if (prototype == null) {
+            prototype = Prototype.create(locale, pattern);
+            if (size.get() >= maxSize) {
+                entries.clear();
+                size.set(0);
+                map = null;
+            }
+            if (map == null) {
+                final ConcurrentMap<String, Prototype> newMap
+                    = new ConcurrentHashMap<String, Prototype>();
+                map = entries.putIfAbsent(locale, newMap);
+                if (map == null)
+                    map = newMap;
+            }
+            if (map.putIfAbsent(pattern, prototype) == null)
+                size.incrementAndGet();
+        }
+
+        return prototype;
+    }
+
+    /*
+     * Same as what MessageFormat does for arguments with no subformat
+     */
+    private static Object[] preformat(final Locale locale,
+        final Object[] params)
+    {
+        if (params == null)
+            return null;
+
+        Object[] ret = params;
+        LocaleFormats formats = null;
+        NumberFormat numberFormat = null;
+        DateFormat dateFormat = null;
+
+        Object param;
+        for (int i = 0; i < params.length; i++) {
+            param = params[i];
+            if (!(param instanceof Number || param instanceof Date))
+                continue;
+            if (ret == params) {
+                ret = params.clone();
+                formats = LocaleFormats.forLocale(locale);
+            }
+            if (param instanceof Number) {
+                if (numberFormat == null)
+                    numberFormat = formats.numberFormat();
+                ret[i] = numberFormat.format(param);
+            } else {
+                if (dateFormat == null)
+                    dateFormat = formats.dateFormat();
+                ret[i] = dateFormat.format(param);
+            }
+        }
+
+        return ret;
+    }
+
+    private static final class Prototype
+    {
+        private final MessageFormat format;
+        private final boolean shared;
+
+        private static Prototype create(final Locale locale,
+            final String pattern)
+        {
+            final MessageFormat format;
+
+            try {
+                format = new MessageFormat(pattern, locale);
+            } catch (IllegalArgumentException ignored) {
+                return INVALID;
+            }
+
+            for (final Format subformat: format.getFormats())
+                if (subformat != null)
+                    return new Prototype(format, false);
+
+            return new Prototype(format, true);
+        }
+
+        private Prototype(final MessageFormat format, final boolean shared)
+        {
+            this.format = format;
+            this.shared = shared;
+        }
+
+        private MessageFormat newInstance()
+        {
+            return shared ? format : (MessageFormat) format.clone();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.provider.DynamicMessageSourceProvider;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.text.MessageFormat;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A handle to a message key of a {@link MessageBundle}
+ *
+ * <p>You obtain a handle using {@link MessageBundle#handle(String)}. Its
+ * methods behave the same as the matching methods of the bundle, except that
+ * the message found for a given locale is remembered; further requests in the
+ * same locale only cost a check of the bundle's generation (see {@link
+ * DynamicMessageSourceProvider}).</p>
+ *
+ * <p>The last used locale is looked up first, so that the common case of an
+ * application using only one locale does not even need a map lookup.</p>
+ *
+ * <p>Messages are only remembered if all providers of the bundle are either
+ * static or dynamic; otherwise, there is no way to tell when a message becomes
+ * stale, and each request is delegated to the bundle.</p>
+ */
+@ThreadSafe
+public final class MessageHandle
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    /*
+     * Maximum number of locales a handle remembers messages for
+     */
+    private static final int MAX_LOCALES = 64;
+
+    private final MessageBundle bundle;
+    private final String key;
+
+    private final ConcurrentMap<Locale, Resolved> messages
+        = new ConcurrentHashMap<Locale, Resolved>();
+    private volatile Resolved last;
+
+    MessageHandle(final MessageBundle bundle, final String key)
+    {
+        this.bundle = bundle;
+        this.key = key;
+    }
+
+    /**
+     * Return the key of this handle
+     *
+     * @return the key
+     */
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Get the message for this handle's key in a given locale
+     *
+     * @param locale the locale
+     * @return the message
+     * @throws NullPointerException locale is null
+     * @see MessageBundle#getMessage(Locale, String)
+     */
+    public String get(final Locale locale)
+    {
+        BUNDLE.checkNotNull(locale, "query.nullLocale");
+
+        if (!bundle.trackedProviders)
+            return bundle.getMessage(locale, key);
+
+        final long generation = bundle.generation();
+
+        Resolved resolved = last;
+
+        if (resolved != null && resolved.generation == generation
+            && resolved.locale.equals(locale))
+            return resolved.message;
+
+        resolved = messages.get(locale);
+
+        if (resolved == null || resolved.generation != generation) {
+            resolved = new Resolved(locale, generation,
+                bundle.getMessage(locale, key));
+            if (messages.size() < MAX_LOCALES)
+                messages.put(locale, resolved);
+        }
+
+        last = resolved;
+        return resolved.message;
+    }
+
+    /**
+     * Get a {@code printf()}-like formatted message for this handle's key
+     *
+     * @param locale the locale
+     * @param params the format parameters
+     * @return the formatted message
+     * @throws NullPointerException locale is null
+     * @see MessageBundle#printf(Locale, String, Object...)
+     * @see Formatter
+     */
+    public String printf(final Locale locale, final Object... params)
+    {
+        return bundle.printfMessage(locale, get(locale), params);
+    }
+
+    /**
+     * Get a message for this handle's key formatted using {@link
+     * MessageFormat}
+     *
+     * @param locale the locale
+     * @param params the format parameters
+     * @return the formatted message
+     * @throws NullPointerException locale is null
+     * @see MessageBundle#format(Locale, String, Object...)
+     */
+    public String format(final Locale locale, final Object... params)
+    {
+        return bundle.formatMessage(locale, get(locale), params);
+    }
+
+    private static final class Resolved
+    {
+        private final Locale locale;
+        private final long generation;
+        private final String message;
+
+        private Resolved(final Locale locale, final long generation,
+            final String message)
+        {
+            this.locale = locale;
+            this.generation = generation;
+            this.message = message;
+        }
+    }
+}
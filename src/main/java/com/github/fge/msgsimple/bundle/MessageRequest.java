@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Locale;
+
+/**
+ * A message key along with its format parameters
+ *
+ * <p>Instances of this class are used to render several messages in one call
+ * using {@link MessageBundle#printfAll(Locale, java.util.List)}. The key is
+ * checked for nullity when the request is created, not when it is
+ * rendered.</p>
+ *
+ * <p>The array of format parameters is copied, but the parameters themselves
+ * are not.</p>
+ */
+@Immutable
+public final class MessageRequest
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    final String key;
+    final Object[] params;
+
+    /**
+     * Create a new request
+     *
+     * @param key the key
+     * @param params the format parameters
+     * @return a new request
+     * @throws NullPointerException key is null
+     */
+    public static MessageRequest of(final String key, final Object... params)
+    {
+        BUNDLE.checkNotNull(key, "query.nullKey");
+        return new MessageRequest(key, params);
+    }
+
+    private MessageRequest(final String key, final Object[] params)
+    {
+        this.key = key;
+        this.params = params == null ? null : params.clone();
+    }
+
+    /**
+     * Return the key of this request
+     *
+     * @return the key
+     */
+    public String getKey()
+    {
+        return key;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+
+/**
+ * Key of the printf result cache of a {@link MessageBundle}: a message key
+ * and its format parameters
+ *
+ * <p>Only parameters of immutable types can be part of a key (see {@link
+ * #isCacheable(Object[])}); two keys are equal if their message keys are
+ * equal and their parameters are equal, in order.</p>
+ */
+@Immutable
+final class PrintfKey
+{
+    private final String key;
+    private final Object[] params;
+    private final int hashCode;
+
+    /**
+     * Tell whether the result of formatting with these parameters can be
+     * cached
+     *
+     * <p>This is the case if all parameters are either {@code null}, strings,
+     * boxed primitives or enum constants.</p>
+     *
+     * @param params the parameters
+     * @return true if the result can be cached
+     */
+    static boolean isCacheable(final Object[] params)
+    {
+        if (params == null)
+            return false;
+
+        for (final Object param: params)
+            if (param != null && !isImmutable(param))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Create a key for a lookup
+     *
+     * <p>The parameter array is not copied; use {@link #copy()} before
+     * inserting a key in the cache.</p>
+     *
+     * @param key the message key
+     * @param params the parameters
+     */
+    PrintfKey(final String key, final Object[] params)
+    {
+        this.key = key;
+        this.params = params;
+        hashCode = 31 * key.hashCode() + Arrays.hashCode(params);
+    }
+
+    private PrintfKey(final PrintfKey other)
+    {
+        key = other.key;
+        params = other.params.clone();
+        hashCode = other.hashCode;
+    }
+
+    /**
+     * Return a copy of this key which does not share its parameter array with
+     * the caller
+     *
+     * @return a copy
+     */
+    PrintfKey copy()
+    {
+        return new PrintfKey(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof PrintfKey))
+            return false;
+        final PrintfKey other = (PrintfKey) obj;
+        return hashCode == other.hashCode && key.equals(other.key)
+            && Arrays.equals(params, other.params);
+    }
+
+    private static boolean isImmutable(final Object param)
+    {
+        final Class<?> c = param.getClass();
+
+        return c == String.class || c == Integer.class || c == Long.class
+            || c == Boolean.class || c == Character.class || c == Short.class
+            || c == Byte.class || c == Double.class || c == Float.class
+            || param instanceof Enum;
+    }
+}
@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled {@code printf()} format string
+ *
+ * <p>This class parses a format string once and records what is needed to
+ * render it. It handles a subset of what {@link Formatter} supports, namely
+ * plain {@code %s} and {@code %d} specifiers (with an optional explicit or
+ * relative argument index), {@code %%} and {@code %n}; rendering these does
+ * not involve a {@link Formatter} at all. Any other format string is rendered
+ * using {@link String#format(Locale, String, Object...)}.</p>
+ *
+ * <p>In all cases, the result is the same as what {@link
+ * MessageBundle#printf(Locale, String, Object...)} used to return: the
+ * formatted string, or the format string itself if {@code String.format()}
+ * would throw an {@link IllegalFormatException}. Errors which can be detected
+ * when compiling the format (an illegal specifier, an unknown conversion,
+ * illegal flags, width or precision for a conversion, a relative index with no
+ * previous argument) are detected only once; missing arguments and argument
+ * type mismatches for supported specifiers are detected without throwing any
+ * exception.</p>
+ */
+@Immutable
+final class PrintfTemplate
+{
+    /*
+     * Same regex as the one used by java.util.Formatter
+     */
+    private static final Pattern SPECIFIER = Pattern.compile(
+        "%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    /*
+     * Valid conversions, and valid date/time conversions after "t" or "T"
+     */
+    private static final String CONVERSIONS = "bBhHsScCdoxXeEfgGaA%n";
+    private static final String DATE_CONVERSIONS
+        = "HIklMSLNpzZsQBbhAaCYyjmdeRTrDFc";
+
+    private static final String LINE_SEPARATOR
+        = System.getProperty("line.separator");
+
+    private enum Kind
+    {
+        /*
+         * Output does not depend on arguments
+         */
+        CONSTANT,
+        /*
+         * Sequence of literals and simple specifiers
+         */
+        SEGMENTS,
+        /*
+         * Let String.format() handle it
+         */
+        LEGACY
+    }
+
+    private final String format;
+    private final Kind kind;
+    private final String constant;
+
+    /*
+     * For SEGMENTS: literals[i] is output before argument specifier i; the
+     * last literal is output after all specifiers. Conversions are 's', 'd',
+     * or 'D' for %,d.
+     */
+    private final String[] literals;
+    private final int[] indices;
+    private final char[] conversions;
+    private final int nrArguments;
+
+    private PrintfTemplate(final String format, final Kind kind,
+        final String constant)
+    {
+        this.format = format;
+        this.kind = kind;
+        this.constant = constant;
+        literals = null;
+        indices = null;
+        conversions = null;
+        nrArguments = 0;
+    }
+
+    private PrintfTemplate(final String format, final List<String> literals,
+        final List<Integer> indices, final List<Character> conversions)
+    {
+        this.format = format;
+        kind = Kind.SEGMENTS;
+        constant = null;
+
+        this.literals = literals.toArray(new String[literals.size()]);
+
+        final int size = indices.size();
+        this.indices = new int[size];
+        this.conversions = new char[size];
+
+        int max = -1;
+        for (int i = 0; i < size; i++) {
+            this.indices[i] = indices.get(i);
+            this.conversions[i] = conversions.get(i);
+            max = Math.max(max, this.indices[i]);
+        }
+        nrArguments = max + 1;
+    }
+
+    /**
+     * Compile a format string
+     *
+     * @param format the format string
+     * @return the compiled template
+     */
+    static PrintfTemplate compile(final String format)
+    {
+        if (format.indexOf('%') == -1)
+            return new PrintfTemplate(format, Kind.CONSTANT, format);
+
+        final List<String> literals = new ArrayList<String>();
+        final List<Integer> indices = new ArrayList<Integer>();
+        final List<Character> conversions = new ArrayList<Character>();
+
+        final StringBuilder literal = new StringBuilder(format.length());
+        final Matcher matcher = SPECIFIER.matcher(format);
+        final int len = format.length();
+
+        int ordinary = 0;
+        int last = -1;
+        int index;
+        int start = 0;
+        int percent;
+        char conversion;
+        String flags;
+
+        while ((percent = format.indexOf('%', start)) != -1) {
+            literal.append(format, start, percent);
+            matcher.region(percent, len);
+            /*
+             * Formatter throws an UnknownFormatConversionException in this
+             * case: output the format as is
+             */
+            if (!matcher.lookingAt())
+                return new PrintfTemplate(format, Kind.CONSTANT, format);
+            start = matcher.end();
+
+            flags = matcher.group(2);
+            if (flags == null)
+                flags = "";
+            conversion = matcher.group(6).charAt(0);
+
+            /*
+             * Formatter rejects this specifier whatever the arguments: output
+             * the format as is, as above
+             */
+            if (alwaysFails(matcher, flags))
+                return new PrintfTemplate(format, Kind.CONSTANT, format);
+
+            /*
+             * Only width-less, precision-less specifiers are supported, and the
+             * only supported flags are the relative index and grouping
+             */
+            if (matcher.group(3) != null || matcher.group(4) != null
+                || matcher.group(5) != null
+                || !(flags.isEmpty() || flags.equals("<")
+                || flags.equals(",")))
+                return legacy(format);
+
+            if (conversion == '%' || conversion == 'n') {
+                if (matcher.group(1) != null || !flags.isEmpty())
+                    return legacy(format);
+                literal.append(conversion == '%' ? "%" : LINE_SEPARATOR);
+                continue;
+            }
+
+            if (conversion != 's' && conversion != 'd')
+                return legacy(format);
+
+            if (flags.equals(",")) {
+                if (conversion != 'd')
+                    return legacy(format);
+                conversion = 'D';
+            }
+
+            if (flags.equals("<")) {
+                if (matcher.group(1) != null)
+                    return legacy(format);
+                /*
+                 * Formatter throws a MissingFormatArgumentException here
+                 */
+                if (last == -1)
+                    return new PrintfTemplate(format, Kind.CONSTANT, format);
+                index = last;
+            } else if (matcher.group(1) != null) {
+                index = explicitIndex(matcher.group(1));
+                if (index == -1)
+                    return legacy(format);
+            } else
+                index = ordinary++;
+
+            last = index;
+            literals.add(literal.toString());
+            literal.setLength(0);
+            indices.add(index);
+            conversions.add(conversion);
+        }
+
+        literal.append(format, start, len);
+
+        if (indices.isEmpty())
+            return new PrintfTemplate(format, Kind.CONSTANT,
+                literal.toString());
+
+        literals.add(literal.toString());
+        return new PrintfTemplate(format, literals, indices, conversions);
+    }
+
+    /*
+     * Whether Formatter rejects a specifier whatever the arguments; these are
+     * the checks it performs when parsing the format string
+     */
+    private static boolean alwaysFails(final Matcher matcher,
+        final String flags)
+    {
+        final boolean width = matcher.group(3) != null;
+        final boolean precision = matcher.group(4) != null;
+        final char conversion = matcher.group(6).charAt(0);
+
+        for (int i = 0; i < flags.length(); i++)
+            if (flags.indexOf(flags.charAt(i), i + 1) != -1)
+                return true;
+
+        if (conversion == '%')
+            return precision || flags.equals("-") && !width
+                || !(flags.isEmpty() || flags.equals("-"));
+
+        if (conversion == 'n')
+            return width || precision || !flags.isEmpty();
+
+        final String f = flags.replace("<", "");
+
+        if (!width && (f.indexOf('-') != -1 || f.indexOf('0') != -1))
+            return true;
+
+        if (matcher.group(5) != null)
+            return DATE_CONVERSIONS.indexOf(conversion) == -1 || precision
+                || hasAnyFlag(f, "#+ 0,(");
+
+        if (CONVERSIONS.indexOf(conversion) == -1)
+            return true;
+
+        switch (Character.toLowerCase(conversion)) {
+            case 'b':
+            case 'h':
+                return hasAnyFlag(f, "#+ 0,(");
+            case 's':
+                /*
+                 * '#' is only rejected if the argument is not Formattable
+                 */
+                return hasAnyFlag(f, "+ 0,(");
+            case 'c':
+                return precision || hasAnyFlag(f, "#+ 0,(");
+            case 'd':
+                return precision || hasAnyFlag(f, "#") || badNumeric(f);
+            case 'o':
+            case 'x':
+                return precision || hasAnyFlag(f, ",") || badNumeric(f);
+            case 'e':
+                return hasAnyFlag(f, ",") || badNumeric(f);
+            case 'g':
+                return hasAnyFlag(f, "#") || badNumeric(f);
+            case 'a':
+                return hasAnyFlag(f, ",(") || badNumeric(f);
+            default:
+                return badNumeric(f);
+        }
+    }
+
+    private static boolean hasAnyFlag(final String flags, final String bad)
+    {
+        for (int i = 0; i < bad.length(); i++)
+            if (flags.indexOf(bad.charAt(i)) != -1)
+                return true;
+        return false;
+    }
+
+    /*
+     * Flag combinations rejected for all numeric conversions
+     */
+    private static boolean badNumeric(final String flags)
+    {
+        return hasAnyFlag(flags, "+") && hasAnyFlag(flags, " ")
+            || hasAnyFlag(flags, "-") && hasAnyFlag(flags, "0");
+    }
+
+    private static PrintfTemplate legacy(final String format)
+    {
+        return new PrintfTemplate(format, Kind.LEGACY, null);
+    }
+
+    /*
+     * Parse an explicit argument index ("n$"); return the 0-based index, or -1
+     * if we cannot handle it
+     */
+    private static int explicitIndex(final String group)
+    {
+        final String s = group.substring(0, group.length() - 1);
+        if (s.length() > 9)
+            return -1;
+        final int ret = Integer.parseInt(s);
+        return ret == 0 ? -1 : ret - 1;
+    }
+
+    /**
+     * Render this template
+     *
+     * @param locale the locale
+     * @param params the arguments
+     * @return the formatted string, or the format string itself on error
+     */
+    String render(final Locale locale, final Object[] params)
+    {
+        final String ret = fallback(locale, params);
+
+        if (ret != null)
+            return ret;
+
+        final StringBuilder sb
+            = new StringBuilder(format.length() + 16 * indices.length);
+
+        try {
+            appendSegments(sb, locale, params);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot happen", e);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Render this template with a single {@code int} argument
+     *
+     * <p>The result is the same as {@link #render(Locale, Object[])} with the
+     * argument boxed into an {@link Integer}; the argument is only boxed if
+     * the template cannot be rendered directly.</p>
+     *
+     * @param locale the locale
+     * @param value the argument
+     * @return the formatted string, or the format string itself on error
+     */
+    String render(final Locale locale, final int value)
+    {
+        return acceptsIntegral(locale) ? renderSingle(locale, value)
+            : render(locale, new Object[] { value });
+    }
+
+    /**
+     * Render this template with a single {@code long} argument
+     *
+     * @param locale the locale
+     * @param value the argument
+     * @return the formatted string, or the format string itself on error
+     * @see #render(Locale, int)
+     */
+    String render(final Locale locale, final long value)
+    {
+        return acceptsIntegral(locale) ? renderSingle(locale, value)
+            : render(locale, new Object[] { value });
+    }
+
+    /**
+     * Render this template with a single {@code double} argument
+     *
+     * @param locale the locale
+     * @param value the argument
+     * @return the formatted string, or the format string itself on error
+     * @see #render(Locale, int)
+     */
+    String render(final Locale locale, final double value)
+    {
+        if (kind != Kind.SEGMENTS || nrArguments != 1)
+            return render(locale, new Object[] { value });
+
+        /*
+         * %d with a double: Formatter would throw an exception
+         */
+        for (final char conversion: conversions)
+            if (conversion != 's')
+                return format;
+
+        final int size = indices.length;
+        final StringBuilder sb
+            = new StringBuilder(format.length() + 24 * size);
+
+        for (int i = 0; i < size; i++)
+            sb.append(literals[i]).append(value);
+
+        return sb.append(literals[size]).toString();
+    }
+
+    /*
+     * Whether this template can be rendered directly with a single integral
+     * argument; both %s and %d then output the same digits
+     */
+    private boolean acceptsIntegral(final Locale locale)
+    {
+        if (kind != Kind.SEGMENTS || nrArguments != 1)
+            return false;
+
+        for (final char conversion: conversions)
+            if (!acceptsInteger(conversion, locale))
+                return false;
+
+        return true;
+    }
+
+    private String renderSingle(final Locale locale, final long value)
+    {
+        final int size = indices.length;
+        final StringBuilder sb
+            = new StringBuilder(format.length() + 20 * size);
+
+        for (int i = 0; i < size; i++) {
+            sb.append(literals[i]);
+            if (conversions[i] == 'D')
+                appendGrouped(sb, value, LocaleFormats.forLocale(locale));
+            else
+                sb.append(value);
+        }
+
+        return sb.append(literals[size]).toString();
+    }
+
+    /**
+     * Render this template into an {@link Appendable}
+     *
+     * <p>Nothing is written before the arguments have been checked; on error,
+     * the format string itself is written.</p>
+     *
+     * @param out the appendable to write to
+     * @param locale the locale
+     * @param params the arguments
+     * @throws IOException failed to write to the appendable
+     */
+    void renderTo(final Appendable out, final Locale locale,
+        final Object[] params)
+        throws IOException
+    {
+        final String ret = fallback(locale, params);
+
+        if (ret != null)
+            out.append(ret);
+        else
+            appendSegments(out, locale, params);
+    }
+
+    /*
+     * Return the rendered string if segments cannot be used for these
+     * arguments, null otherwise
+     */
+    private String fallback(final Locale locale, final Object[] params)
+    {
+        switch (kind) {
+            case CONSTANT:
+                return constant;
+            case LEGACY:
+                return legacy(locale, params);
+            default:
+        }
+
+        if (params == null)
+            return legacy(locale, null);
+
+        /*
+         * Missing argument: Formatter would throw an exception
+         */
+        if (params.length < nrArguments)
+            return format;
+
+        final int size = indices.length;
+
+        Object arg;
+        for (int i = 0; i < size; i++) {
+            arg = params[indices[i]];
+            if (arg instanceof Formattable)
+                return legacy(locale, params);
+            if (conversions[i] == 's' || arg == null)
+                continue;
+            if (!isIntegral(arg))
+                return arg instanceof BigInteger ? legacy(locale, params)
+                    : format;
+            if (!acceptsInteger(conversions[i], locale))
+                return legacy(locale, params);
+        }
+
+        return null;
+    }
+
+    private void appendSegments(final Appendable out, final Locale locale,
+        final Object[] params)
+        throws IOException
+    {
+        final int size = indices.length;
+        final StringBuilder sb = out instanceof StringBuilder
+            ? (StringBuilder) out : null;
+
+        Object arg;
+        long value;
+        LocaleFormats formats;
+        for (int i = 0; i < size; i++) {
+            out.append(literals[i]);
+            arg = params[indices[i]];
+            if (arg == null) {
+                out.append("null");
+                continue;
+            }
+            if (conversions[i] == 's') {
+                out.append(arg.toString());
+                continue;
+            }
+            value = ((Number) arg).longValue();
+            if (conversions[i] == 'd') {
+                if (sb != null)
+                    sb.append(value);
+                else
+                    out.append(String.valueOf(value));
+                continue;
+            }
+            formats = LocaleFormats.forLocale(locale);
+            if (sb != null)
+                appendGrouped(sb, value, formats);
+            else
+                out.append(appendGrouped(new StringBuilder(), value, formats));
+        }
+
+        out.append(literals[size]);
+    }
+
+    /*
+     * Whether Formatter would output an integer for this conversion using
+     * plain ASCII digits, and for %,d, whether it groups digits
+     */
+    private static boolean acceptsInteger(final char conversion,
+        final Locale locale)
+    {
+        if (conversion == 's')
+            return true;
+
+        final LocaleFormats formats = LocaleFormats.forLocale(locale);
+
+        if (!formats.asciiZero)
+            return false;
+
+        return conversion == 'd' || formats.groupingSeparator != '\0';
+    }
+
+    /*
+     * Same algorithm as java.util.Formatter
+     */
+    private static StringBuilder appendGrouped(final StringBuilder sb,
+        final long value, final LocaleFormats formats)
+    {
+        final String digits = Long.toString(value);
+        final int start = value < 0 ? 1 : 0;
+        final int len = digits.length();
+        final char separator = formats.groupingSeparator;
+        final int groupingSize = formats.groupingSize;
+
+        if (start == 1)
+            sb.append('-');
+
+        for (int i = start; i < len; i++) {
+            sb.append(digits.charAt(i));
+            if (i != len - 1 && (len - i) % groupingSize == 1)
+                sb.append(separator);
+        }
+
+        return sb;
+    }
+
+    private String legacy(final Locale locale, final Object[] params)
+    {
+        try {
+            return String.format(locale, format, params);
+        } catch (IllegalFormatException ignored) {
+            return format;
+        }
+    }
+
+    private static boolean isIntegral(final Object arg)
+    {
+        return arg instanceof Integer || arg instanceof Long
+            || arg instanceof Short || arg instanceof Byte;
+    }
+}
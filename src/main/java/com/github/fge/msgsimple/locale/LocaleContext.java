@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.locale;
+
+import com.github.fge.msgsimple.bundle.MessageBundle;
+
+import java.util.Locale;
+
+/**
+ * A per-thread locale context
+ *
+ * <p>This class allows to bind a locale to the current thread; methods of
+ * {@link MessageBundle} which do not take a locale as an argument will then use
+ * this locale. This is typically set once at the beginning of a request, and
+ * reset at its end:</p>
+ *
+ * <pre>
+ *     final Locale previous = LocaleContext.set(requestLocale);
+ *     try {
+ *         // process the request
+ *     } finally {
+ *         LocaleContext.set(previous);
+ *     }
+ * </pre>
+ *
+ * @since 1.2
+ */
+public final class LocaleContext
+{
+    private static final ThreadLocal<Locale> LOCALE = new ThreadLocal<Locale>();
+
+    private LocaleContext()
+    {
+    }
+
+    /**
+     * Bind a locale to the current thread
+     *
+     * @param locale the locale; {@code null} to remove the current binding
+     * @return the previously bound locale, or {@code null} if none
+     */
+    public static Locale set(final Locale locale)
+    {
+        final Locale ret = LOCALE.get();
+        if (locale == null)
+            LOCALE.remove();
+        else
+            LOCALE.set(locale);
+        return ret;
+    }
+
+    /**
+     * Get the locale bound to the current thread
+     *
+     * @return the locale, or {@code null} if none is bound
+     */
+    public static Locale get()
+    {
+        return LOCALE.get();
+    }
+
+    /**
+     * Remove the locale bound to the current thread, if any
+     */
+    public static void clear()
+    {
+        LOCALE.remove();
+    }
+}
@@ -21,9 +21,12 @@ package com.github.fge.msgsimple.locale;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 /**
@@ -50,11 +53,25 @@ import java.util.regex.Pattern;
  *     <li>{@code "ja"},</li>
  *     <li>{@code ""} (the root locale, {@link Locale#ROOT}).</li>
  * </ul>
+ *
+ * <p>Lists returned by this method are immutable, and computed only once per
+ * locale (up to a fixed number of locales); further calls with the same locale
+ * return the same list.</p>
  */
 public final class LocaleUtils
 {
     private static final Pattern UNDERSCORE = Pattern.compile("_");
 
+    /*
+     * Memoized lists of applicable locales. We bound the number of entries
+     * since locales may come from user input (an HTTP Accept-Language header,
+     * for instance); past that limit, lists are computed on each call.
+     */
+    private static final int MAX_CACHED_LOCALES = 512;
+
+    private static final ConcurrentMap<Locale, List<Locale>> APPLICABLE
+        = new ConcurrentHashMap<Locale, List<Locale>>();
+
     private LocaleUtils()
     {
     }
@@ -126,10 +143,45 @@ public final class LocaleUtils
      * <p>The order of locale returned is from the more specific to the less
      * specific (the latter being {@link Locale#ROOT}).</p>
      *
+     * <p>The returned list is immutable.</p>
+     *
      * @param target the locale
      * @return the list of applicable locales
      */
     public static Collection<Locale> getApplicable(final Locale target)
+    {
+        return getApplicableList(target);
+    }
+
+    /**
+     * Get a "decrementing" list of candidate locales for a given locale
+     *
+     * <p>This returns the same list as {@link #getApplicable(Locale)}, typed as
+     * a {@link List}; this allows callers to iterate over it using indices
+     * instead of an iterator.</p>
+     *
+     * @since 1.2
+     *
+     * @param target the locale
+     * @return the list of applicable locales
+     */
+    public static List<Locale> getApplicableList(final Locale target)
+    {
+        List<Locale> ret = APPLICABLE.get(target);
+
+        if (ret != null)
+            return ret;
+
+        ret = computeApplicable(target);
+
+        if (APPLICABLE.size() >= MAX_CACHED_LOCALES)
+            return ret;
+
+        final List<Locale> previous = APPLICABLE.putIfAbsent(target, ret);
+        return previous == null ? ret : previous;
+    }
+
+    private static List<Locale> computeApplicable(final Locale target)
     {
         final String language = target.getLanguage();
         final String country = target.getCountry();
@@ -155,6 +207,6 @@ public final class LocaleUtils
         if (!language.isEmpty())
             ret.add(Locale.ROOT);
 
-        return ret;
+        return Collections.unmodifiableList(ret);
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.provider;
+
+import com.github.fge.msgsimple.source.MessageSource;
+
+import java.util.Locale;
+
+/**
+ * A message source provider whose sources may change over time
+ *
+ * <p>Unlike a {@link StaticMessageSourceProvider}, such a provider may return
+ * different {@link MessageSource}s for the same locale at different points in
+ * time (for instance, because sources are loaded on demand, or expire).</p>
+ *
+ * <p>Such providers expose a <em>generation</em>: a number which changes each
+ * time the provider may return a different source for at least one locale.
+ * Callers caching the results of lookups can use it to know whether their
+ * cached results are still valid.</p>
+ *
+ * @since 1.2
+ *
+ * @see LoadingMessageSourceProvider
+ */
+public interface DynamicMessageSourceProvider
+    extends MessageSourceProvider
+{
+    /**
+     * Get the current generation of this provider
+     *
+     * <p>The generation must never decrease; it must increase after any change
+     * to the message sources this provider returns.</p>
+     *
+     * @return the current generation
+     */
+    long getGeneration();
+}
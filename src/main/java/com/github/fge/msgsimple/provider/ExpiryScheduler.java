@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.provider;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expiry scheduler shared by all {@link LoadingMessageSourceProvider}
+ * instances
+ *
+ * <p>All expiries run on a single daemon thread, which is only created when
+ * the first expiry is scheduled.</p>
+ *
+ * <p>Providers are only weakly referenced: when a provider is garbage
+ * collected, its expiry is cancelled the next time it is due.</p>
+ */
+final class ExpiryScheduler
+{
+    private ExpiryScheduler()
+    {
+    }
+
+    /**
+     * Periodically expire the sources of a provider
+     *
+     * @param provider the provider
+     * @param duration the expiry period
+     * @param unit the time unit of the period
+     * @return the scheduled expiry
+     */
+    static Future<?> schedule(final LoadingMessageSourceProvider provider,
+        final long duration, final TimeUnit unit)
+    {
+        final ExpiryTask task = new ExpiryTask(provider);
+        task.future = Holder.SCHEDULER.scheduleAtFixedRate(task, duration,
+            duration, unit);
+        return task.future;
+    }
+
+    private static final class Holder
+    {
+        private static final ScheduledExecutorService SCHEDULER
+            = Executors.newSingleThreadScheduledExecutor(
+            SharedExecutors.THREAD_FACTORY);
+    }
+
+    static final class ExpiryTask
+        implements Runnable
+    {
+        final WeakReference<LoadingMessageSourceProvider> ref;
+
+        /*
+         * Set right after scheduling; the first run cannot happen before a
+         * whole period has elapsed, but be safe anyway
+         */
+        volatile Future<?> future;
+
+        ExpiryTask(final LoadingMessageSourceProvider provider)
+        {
+            ref = new WeakReference<LoadingMessageSourceProvider>(provider);
+        }
+
+        @Override
+        public void run()
+        {
+            final LoadingMessageSourceProvider provider = ref.get();
+
+            /*
+             * A periodic task which throws is never run again; and since all
+             * expiries share the same thread, do not let one provider (or its
+             * executor) stop its own expiries for good
+             */
+            if (provider != null) {
+                try {
+                    provider.expire();
+                } catch (RuntimeException ignored) {
+                }
+                return;
+            }
+
+            final Future<?> self = future;
+            if (self != null)
+                self.cancel(false);
+        }
+    }
+}
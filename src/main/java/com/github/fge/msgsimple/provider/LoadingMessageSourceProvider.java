@@ -24,22 +24,20 @@ import com.github.fge.msgsimple.source.MessageSource;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A caching, on-demand loading message source provider with configurable expiry
@@ -48,11 +46,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * message sources. As is the case for {@link StaticMessageSourceProvider}, you
  * can also set a default source if the loader fails to grab a source.</p>
  *
- * <p>Apart from the loader, you can customize two aspects of the provider:</p>
+ * <p>Apart from the loader, you can customize three aspects of the provider:
+ * </p>
  *
  * <ul>
  *     <li>its load timeout (1 second by default);</li>
- *     <li>its expiry time (10 minutes by default).</li>
+ *     <li>its expiry time (10 minutes by default);</li>
+ *     <li>the executor running loading tasks (a pool of daemon threads shared
+ *     by all loading providers by default).</li>
  * </ul>
  *
  * <p>Note that the expiry time is periodic only, and not per source. The
@@ -66,6 +67,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *
  * <p>You can also configure a loader so that it never expires.</p>
  *
+ * <p>Alternatively, you can configure the provider to refresh sources on expiry
+ * instead of discarding them (see {@link Builder#refreshOnExpiry()}): a
+ * successfully loaded source is then reloaded in the background, and keeps
+ * being returned until the reload succeeds.</p>
+ *
+ * <p>The generation of this provider (see {@link DynamicMessageSourceProvider})
+ * changes each time a loading task completes, and each time expiry discards
+ * sources; a source being refreshed only causes a change once its reload
+ * completes.</p>
+ *
  * <p>You cannot instantiate that class directly; use {@link #newBuilder()} to
  * obtain a builder class and set up your provider.</p>
  *
@@ -73,36 +84,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 @ThreadSafe
 public final class LoadingMessageSourceProvider
-    implements MessageSourceProvider
+    implements DynamicMessageSourceProvider
 {
+    private static final InternalBundle BUNDLE = InternalBundle.getInstance();
+
     /*
-     * Use daemon threads. We don't give control to the user about the
-     * ExecutorService, and we don't have a reliable way to shut it down (a JVM
-     * shutdown hook does not get involved on a webapp shutdown, so we cannot
-     * use that...).
+     * Marker published by a completed loading task when the default source
+     * should be returned (the loader returned null, or failed). We cannot use
+     * the default source itself, since it may be null.
      */
-    private static final ThreadFactory THREAD_FACTORY = new ThreadFactory()
+    private static final MessageSource USE_DEFAULT = new MessageSource()
     {
-        private final ThreadFactory factory = Executors.defaultThreadFactory();
-
         @Override
-        public Thread newThread(final Runnable r)
+        public String getKey(final String key)
         {
-            final Thread ret = factory.newThread(r);
-            ret.setDaemon(true);
-            return ret;
+            return null;
         }
     };
 
-    private static final InternalBundle BUNDLE = InternalBundle.getInstance();
-
-    private static final int NTHREADS = 3;
-
     /*
-     * Executor service for loading tasks
+     * Executor for loading tasks
      */
-    private final ExecutorService service
-        = Executors.newFixedThreadPool(NTHREADS, THREAD_FACTORY);
+    private final Executor executor;
 
     /*
      * Loader and default source
@@ -125,16 +128,25 @@ public final class LoadingMessageSourceProvider
     private final AtomicBoolean expiryEnabled;
     private final long expiryDuration;
     private final TimeUnit expiryUnit;
+    private final boolean refreshOnExpiry;
 
     /*
      * List of sources
      */
-    private final Map<Locale, FutureTask<MessageSource>> sources
-        = new HashMap<Locale, FutureTask<MessageSource>>();
+    private final ConcurrentMap<Locale, LoadingTask> sources
+        = new ConcurrentHashMap<Locale, LoadingTask>();
+
+    /*
+     * Generation; bumped after a loading task completes and after expiry
+     * discards sources
+     */
+    private final AtomicLong generation = new AtomicLong();
 
     private LoadingMessageSourceProvider(final Builder builder)
     {
         loader = builder.loader;
+        executor = builder.executor != null ? builder.executor
+            : SharedExecutors.loaders();
         defaultSource = builder.defaultSource;
 
         timeoutDuration = builder.timeoutDuration;
@@ -142,6 +154,7 @@ public final class LoadingMessageSourceProvider
 
         expiryDuration =  builder.expiryDuration;
         expiryUnit = builder.expiryUnit;
+        refreshOnExpiry = builder.refreshOnExpiry;
         /*
          * Mimic an already enabled expiry if, in fact, there is none
          */
@@ -167,30 +180,48 @@ public final class LoadingMessageSourceProvider
         if (!expiryEnabled.getAndSet(true))
             setupExpiry(expiryDuration, expiryUnit);
 
-        FutureTask<MessageSource> task;
-
         /*
          * The algorithm is as follows:
          *
-         * - access the sources map in a synchronous manner (the expiry task
-         *   also does this);
-         * - grab the FutureTask matching the required locale:
-         *     - if no task exists, create it;
-         *     - if it exists but has been cancelled (in the event of a timeout,
-         *       see below), create a new task;
-         * - always within the synchronized access to sources, submit the task
-         *   for immediate execution to our ExecutorService;
+         * - grab the loading task matching the required locale; this does not
+         *   lock anything;
+         * - if no task exists, create one and try to insert it atomically
+         *   (the expiry task may remove entries concurrently):
+         *     - if insertion succeeds, submit the task for immediate execution
+         *       to our executor; if the executor rejects it, remove it and
+         *       return the default source;
+         *     - if another thread has inserted a task in the meanwhile, use
+         *       that task instead, and throw ours away (it has not been
+         *       submitted, so it costs nothing);
+         * - if the task has completed, it has published its result: return
+         *   it, or the default source;
+         * - if the task is a refresh, return the previous source;
          * - to be followed...
          */
-        synchronized (sources) {
-            task = sources.get(locale);
+        LoadingTask task = sources.get(locale);
+
+        if (task == null) {
+            final LoadingTask newTask = new LoadingTask(locale, null);
+            task = sources.putIfAbsent(locale, newTask);
             if (task == null) {
-                task = loadingTask(locale);
-                sources.put(locale, task);
-                service.execute(task);
+                task = newTask;
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ignored) {
+                    sources.remove(locale, task);
+                    return defaultSource;
+                }
             }
         }
 
+        final MessageSource resolved = task.resolved;
+
+        if (resolved != null)
+            return resolved == USE_DEFAULT ? defaultSource : resolved;
+
+        if (task.previous != null)
+            return task.previous;
+
         /*
          * - try and get the result of the task, with a timeout;
          * - if we get a result in time, return it, or the default source (if
@@ -236,40 +267,140 @@ public final class LoadingMessageSourceProvider
         }
     }
 
-    private FutureTask<MessageSource> loadingTask(final Locale locale)
+    @Override
+    public long getGeneration()
+    {
+        return generation.get();
+    }
+
+    /*
+     * A loading task which publishes its result, once completed, in a volatile
+     * field; this spares lookups the cost of a timed .get() once the load is
+     * over.
+     *
+     * The field is null until the task completes, and remains null if the
+     * task is cancelled.
+     *
+     * When the task is a refresh, it also holds the previously loaded source;
+     * this source is published instead if the reload fails.
+     */
+    private final class LoadingTask
+        extends FutureTask<MessageSource>
     {
-        return new FutureTask<MessageSource>(new Callable<MessageSource>()
+        private final MessageSource previous;
+        private volatile MessageSource resolved;
+
+        private LoadingTask(final Locale locale, final MessageSource previous)
         {
-            @Override
-            public MessageSource call()
-                throws IOException
+            super(new Callable<MessageSource>()
             {
-                return loader.load(locale);
+                @Override
+                public MessageSource call()
+                    throws IOException
+                {
+                    return loader.load(locale);
+                }
+            });
+            this.previous = previous;
+        }
+
+        @Override
+        protected void done()
+        {
+            /*
+             * A cancelled task has published nothing
+             */
+            if (isCancelled())
+                return;
+            resolved = resolve();
+            generation.incrementAndGet();
+        }
+
+        private MessageSource resolve()
+        {
+            /*
+             * The task is complete at this point, this does not block
+             */
+            try {
+                final MessageSource source = get();
+                if (source != null)
+                    return source;
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+                // Fall through
             }
-        });
+            return previous == null ? USE_DEFAULT : previous;
+        }
     }
 
     private void setupExpiry(final long duration, final TimeUnit unit)
     {
-        final Runnable runnable = new Runnable()
-        {
-            @Override
-            public void run()
-            {
-                final List<FutureTask<MessageSource>> tasks;
-                synchronized (sources) {
-                    tasks = new ArrayList<FutureTask<MessageSource>>(
-                        sources.values());
-                    sources.clear();
+        ExpiryScheduler.schedule(this, duration, unit);
+    }
+
+    /*
+     * Called by the expiry scheduler
+     */
+    void expire()
+    {
+        /*
+         * Only remove (and cancel) the tasks we see; a task inserted
+         * concurrently by a lookup survives until the next expiry.
+         *
+         * When refreshing, successfully loaded sources are reloaded instead;
+         * a refresh still running is cancelled and submitted again. Failed
+         * loads, and first loads still running, are removed in both modes,
+         * so that the next lookup retries them.
+         */
+        Locale locale;
+        LoadingTask task;
+        MessageSource previous;
+        boolean removed = false;
+        for (final Map.Entry<Locale, LoadingTask> entry: sources.entrySet()) {
+            locale = entry.getKey();
+            task = entry.getValue();
+            if (refreshOnExpiry) {
+                previous = task.resolved;
+                if (previous == null)
+                    previous = task.previous;
+                if (previous != null && previous != USE_DEFAULT) {
+                    refresh(locale, task, previous);
+                    continue;
                 }
-                for (final FutureTask<MessageSource> task: tasks)
-                    task.cancel(true);
             }
-        };
-        // Overkill?
-        final ScheduledExecutorService scheduled
-            = Executors.newScheduledThreadPool(1, THREAD_FACTORY);
-        scheduled.scheduleAtFixedRate(runnable, duration, duration, unit);
+            if (sources.remove(locale, task)) {
+                task.cancel(true);
+                removed = true;
+            }
+        }
+
+        /*
+         * Refreshes bump the generation themselves when they complete
+         */
+        if (removed)
+            generation.incrementAndGet();
+    }
+
+    private void refresh(final Locale locale, final LoadingTask task,
+        final MessageSource previous)
+    {
+        final LoadingTask newTask = new LoadingTask(locale, previous);
+
+        if (!sources.replace(locale, task, newTask))
+            return;
+
+        try {
+            executor.execute(newTask);
+        } catch (RejectedExecutionException ignored) {
+            sources.replace(locale, newTask, task);
+            return;
+        }
+
+        /*
+         * No effect if the task has completed
+         */
+        task.cancel(true);
     }
 
     /**
@@ -283,11 +414,13 @@ public final class LoadingMessageSourceProvider
          * want a 1 ns expiry that we woudln't prevent it.
          */
         private MessageSourceLoader loader;
+        private Executor executor;
         private MessageSource defaultSource;
         private long timeoutDuration = 1L;
         private TimeUnit timeoutUnit = TimeUnit.SECONDS;
         private long expiryDuration = 10L;
         private TimeUnit expiryUnit = TimeUnit.MINUTES;
+        private boolean refreshOnExpiry;
 
         private Builder()
         {
@@ -307,6 +440,47 @@ public final class LoadingMessageSourceProvider
             return this;
         }
 
+        /**
+         * Set the executor used to run loading tasks
+         *
+         * <p>By default, loading tasks run on a pool of daemon threads shared
+         * by all loading providers. The executor is not shut down by the
+         * provider.</p>
+         *
+         * @since 1.2
+         *
+         * @param executor the executor
+         * @throws NullPointerException executor is null
+         * @return this
+         *
+         * @see #useVirtualThreads()
+         */
+        public Builder setExecutor(final Executor executor)
+        {
+            BUNDLE.checkNotNull(executor, "cfg.nullExecutor");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Run loading tasks on virtual threads, if available
+         *
+         * <p>A new virtual thread is started for each loading task. If the
+         * JVM does not support virtual threads, the default shared pool is
+         * used instead.</p>
+         *
+         * @since 1.2
+         *
+         * @return this
+         *
+         * @see #setExecutor(Executor)
+         */
+        public Builder useVirtualThreads()
+        {
+            executor = SharedExecutors.virtualThreads();
+            return this;
+        }
+
         /**
          * Set the default message source if the loader fails to load
          *
@@ -382,6 +556,33 @@ public final class LoadingMessageSourceProvider
             return this;
         }
 
+        /**
+         * Refresh sources on expiry instead of discarding them
+         *
+         * <p>By default, all sources are discarded on expiry, and the next
+         * lookup for a locale has to wait for a new load (or for the load
+         * timeout, in which case the default source is returned).</p>
+         *
+         * <p>With this option, sources which have been successfully loaded
+         * are reloaded in the background on expiry; the previous source keeps
+         * being returned while the reload runs, and is replaced only if the
+         * reload succeeds. Locales for which loading failed are discarded as
+         * usual.</p>
+         *
+         * <p>This option has no effect if sources never expire.</p>
+         *
+         * @since 1.2
+         *
+         * @return this
+         *
+         * @see #setExpiryTime(long, TimeUnit)
+         */
+        public Builder refreshOnExpiry()
+        {
+            refreshOnExpiry = true;
+            return this;
+        }
+
         /**
          * Build the provider
          *
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.provider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors shared by all {@link LoadingMessageSourceProvider} instances
+ *
+ * <p>Each executor is only created when first requested.</p>
+ */
+final class SharedExecutors
+{
+    /*
+     * Use daemon threads. We don't have a reliable way to shut down shared
+     * executors (a JVM shutdown hook does not get involved on a webapp
+     * shutdown, so we cannot use that...).
+     */
+    static final ThreadFactory THREAD_FACTORY = new ThreadFactory()
+    {
+        private final ThreadFactory factory = Executors.defaultThreadFactory();
+
+        @Override
+        public Thread newThread(final Runnable r)
+        {
+            final Thread ret = factory.newThread(r);
+            ret.setDaemon(true);
+            return ret;
+        }
+    };
+
+    private SharedExecutors()
+    {
+    }
+
+    /**
+     * Return the default executor for loading tasks
+     *
+     * <p>This is a bounded pool of daemon threads; idle threads are
+     * reclaimed after one minute.</p>
+     *
+     * @return an executor
+     */
+    static Executor loaders()
+    {
+        return LoadersHolder.EXECUTOR;
+    }
+
+    /**
+     * Return an executor running each task in a new virtual thread
+     *
+     * <p>If the running JVM does not support virtual threads, this returns
+     * {@link #loaders()} instead.</p>
+     *
+     * @return an executor
+     */
+    static Executor virtualThreads()
+    {
+        return VirtualThreadsHolder.EXECUTOR;
+    }
+
+    private static final class LoadersHolder
+    {
+        private static final Executor EXECUTOR;
+
+        static {
+            final int nthreads
+                = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                nthreads, nthreads, 1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<Runnable>(), THREAD_FACTORY);
+            executor.allowCoreThreadTimeOut(true);
+            EXECUTOR = executor;
+        }
+    }
+
+    private static final class VirtualThreadsHolder
+    {
+        private static final Executor EXECUTOR;
+
+        static {
+            Executor executor;
+            /*
+             * Executors.newVirtualThreadPerTaskExecutor() only exists since
+             * Java 21
+             */
+            try {
+                final Method method = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+                executor = (Executor) method.invoke(null);
+            } catch (Exception ignored) {
+                executor = loaders();
+            }
+            EXECUTOR = executor;
+        }
+    }
+}
@@ -24,9 +24,13 @@ import com.github.fge.msgsimple.source.MessageSource;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Static message source provider
@@ -91,6 +95,63 @@ public final class StaticMessageSourceProvider
         return new Builder().addSource(locale, source).build();
     }
 
+    /**
+     * Merge several static providers into a single one
+     *
+     * <p>For any locale, the returned provider will return a message source
+     * which queries the sources of all merged providers for this locale, in
+     * order. This is used by {@link
+     * com.github.fge.msgsimple.bundle.MessageBundleBuilder#freeze()} to
+     * collapse consecutive static providers of a bundle.</p>
+     *
+     * @since 1.2
+     *
+     * @param providers the providers to merge
+     * @return a new provider
+     * @throws NullPointerException list is null, or one provider is null
+     */
+    public static MessageSourceProvider merge(
+        final List<StaticMessageSourceProvider> providers)
+    {
+        BUNDLE.checkNotNull(providers, "cfg.nullProvider");
+
+        final Set<Locale> locales = new LinkedHashSet<Locale>();
+
+        for (final StaticMessageSourceProvider provider: providers)
+            locales.addAll(BUNDLE.checkNotNull(provider, "cfg.nullProvider")
+                .sources.keySet());
+
+        final Builder builder = new Builder();
+        final List<MessageSource> list = new ArrayList<MessageSource>();
+
+        for (final Locale locale: locales) {
+            list.clear();
+            for (final StaticMessageSourceProvider provider: providers)
+                addIfNotNull(list, provider.getMessageSource(locale));
+            builder.addSource(locale, chain(list));
+        }
+
+        list.clear();
+        for (final StaticMessageSourceProvider provider: providers)
+            addIfNotNull(list, provider.defaultSource);
+        if (!list.isEmpty())
+            builder.setDefaultSource(chain(list));
+
+        return builder.build();
+    }
+
+    private static void addIfNotNull(final List<MessageSource> list,
+        final MessageSource source)
+    {
+        if (source != null)
+            list.add(source);
+    }
+
+    private static MessageSource chain(final List<MessageSource> list)
+    {
+        return list.size() == 1 ? list.get(0) : new ChainedMessageSource(list);
+    }
+
     private StaticMessageSourceProvider(final Builder builder)
     {
         defaultSource = builder.defaultSource;
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public final class InterpolationTemplateTest
+{
+    private static final Object[] POSITIONAL = { "a", 1, null };
+    private static final Map<String, Object> NAMED
+        = new HashMap<String, Object>();
+
+    static {
+        NAMED.put("name", "world");
+        NAMED.put("0", "zero");
+        NAMED.put("nothing", null);
+    }
+
+    @DataProvider
+    public Iterator<Object[]> positionalData()
+    {
+        final List<Object[]> list = new ArrayList<Object[]>();
+
+        list.add(new Object[] { "", "" });
+        list.add(new Object[] { "no placeholders", "no placeholders" });
+        list.add(new Object[] { "{0}", "a" });
+        list.add(new Object[] { "{0}{1}{2}", "a1null" });
+        list.add(new Object[] { "{1} and {1}", "1 and 1" });
+        list.add(new Object[] { "{3} is missing", "{3} is missing" });
+        list.add(new Object[] { "{name} is named", "{name} is named" });
+        list.add(new Object[] { "{} { 0} {0 } {", "{} { 0} {0 } {" });
+        list.add(new Object[] { "{{0}}", "{a}" });
+        list.add(new Object[] { "{99999999999}", "{99999999999}" });
+        list.add(new Object[] { "'{0}' {0,number}", "'a' {0,number}" });
+
+        return list.iterator();
+    }
+
+    @Test(dataProvider = "positionalData")
+    public void positionalRenderingWorks(final String message,
+        final String expected)
+    {
+        final InterpolationTemplate template
+            = InterpolationTemplate.compile(message);
+
+        assertEquals(template.render(POSITIONAL), expected);
+    }
+
+    @Test
+    public void nullPositionalArgumentsLeavePlaceholdersUnchanged()
+    {
+        final InterpolationTemplate template
+            = InterpolationTemplate.compile("Hello {0}");
+
+        assertEquals(template.render((Object[]) null), "Hello {0}");
+    }
+
+    @DataProvider
+    public Iterator<Object[]> namedData()
+    {
+        final List<Object[]> list = new ArrayList<Object[]>();
+
+        list.add(new Object[] { "Hello {name}!", "Hello world!" });
+        list.add(new Object[] { "{0} {1}", "zero {1}" });
+        list.add(new Object[] { "{nothing} here", "null here" });
+        list.add(new Object[] { "{missing} here", "{missing} here" });
+        list.add(new Object[] { "{a.b-c_d}", "{a.b-c_d}" });
+
+        return list.iterator();
+    }
+
+    @Test(dataProvider = "namedData")
+    public void namedRenderingWorks(final String message,
+        final String expected)
+    {
+        final InterpolationTemplate template
+            = InterpolationTemplate.compile(message);
+
+        assertEquals(template.render(NAMED), expected);
+    }
+}
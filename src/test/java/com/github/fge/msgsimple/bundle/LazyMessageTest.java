@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.locale.LocaleContext;
+import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MessageSource;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public final class LazyMessageTest
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    private static final Locale LOCALE = Locale.FRANCE;
+
+    private MessageSourceProvider provider;
+    private MessageBundle bundle;
+
+    @BeforeMethod
+    public void init()
+    {
+        provider = mock(MessageSourceProvider.class);
+        final MessageSource source = mock(MessageSource.class);
+
+        when(provider.getMessageSource(LOCALE)).thenReturn(source);
+        when(source.getKey("key")).thenReturn("Bonjour %s");
+
+        bundle = MessageBundle.newBuilder().appendProvider(provider).freeze();
+    }
+
+    @Test
+    public void cannotCreateLazyMessageWithNullKeyOrLocale()
+    {
+        try {
+            bundle.lazy(LOCALE, null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullKey"));
+        }
+
+        try {
+            bundle.lazy((Locale) null, "key");
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullLocale"));
+        }
+    }
+
+    @Test
+    public void lazyMessageIsOnlyFormattedWhenNeeded()
+    {
+        final LazyMessage message = bundle.lazy(LOCALE, "key", "monde");
+
+        verifyZeroInteractions(provider);
+        assertFalse(message.isFormatted());
+        assertSame(message.getLocale(), LOCALE);
+        assertEquals(message.getKey(), "key");
+
+        assertEquals(message.toString(), "Bonjour monde");
+        assertTrue(message.isFormatted());
+        assertEquals(message.length(), 13);
+        assertEquals(message.charAt(8), 'm');
+        assertEquals(message.subSequence(8, 13), "monde");
+
+        verify(provider, times(1)).getMessageSource(LOCALE);
+    }
+
+    @Test
+    public void lazyMessageCapturesCurrentLocaleAtCreation()
+    {
+        final LazyMessage message;
+
+        final Locale previous = LocaleContext.set(LOCALE);
+        try {
+            message = bundle.lazy("key", "monde");
+        } finally {
+            LocaleContext.set(previous);
+        }
+
+        assertSame(message.getLocale(), LOCALE);
+        assertEquals(message.toString(), "Bonjour monde");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.testng.annotations.Test;
+
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.testng.Assert.*;
+
+public final class LocaleFormatsTest
+{
+    @Test
+    public void formatsAreComputedOncePerLocale()
+    {
+        assertSame(LocaleFormats.forLocale(Locale.GERMANY),
+            LocaleFormats.forLocale(Locale.GERMANY));
+    }
+
+    @Test
+    public void groupingMatchesFormatter()
+    {
+        final LocaleFormats formats = LocaleFormats.forLocale(Locale.US);
+
+        assertTrue(formats.asciiZero);
+        assertEquals(formats.groupingSeparator, ',');
+        assertEquals(formats.groupingSize, 3);
+    }
+
+    @Test
+    public void formatsAreClonedAndSameAsDefaultFormats()
+    {
+        final Locale locale = Locale.FRANCE;
+        final LocaleFormats formats = LocaleFormats.forLocale(locale);
+        final Date date = new Date(0L);
+
+        assertNotSame(formats.numberFormat(), formats.numberFormat());
+        assertNotSame(formats.dateFormat(), formats.dateFormat());
+
+        assertEquals(formats.numberFormat().format(1234.5678),
+            NumberFormat.getInstance(locale).format(1234.5678));
+        assertEquals(formats.dateFormat().format(date),
+            DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT,
+                locale).format(date));
+    }
+}
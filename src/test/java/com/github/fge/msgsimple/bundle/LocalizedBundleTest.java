@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.locale.LocaleUtils;
+import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MessageSource;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public final class LocalizedBundleTest
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    private static final Locale LOCALE = LocaleUtils.parseLocale("fr_FR");
+    private static final Locale PARENT = LocaleUtils.parseLocale("fr");
+
+    private MessageSourceProvider provider;
+    private MessageSource source;
+    private MessageSource source2;
+    private MessageBundle bundle;
+
+    @BeforeMethod
+    public void init()
+    {
+        provider = mock(MessageSourceProvider.class);
+        source = mock(MessageSource.class);
+        source2 = mock(MessageSource.class);
+
+        when(provider.getMessageSource(LOCALE)).thenReturn(source);
+        when(provider.getMessageSource(PARENT)).thenReturn(source2);
+        when(source.getKey("key1")).thenReturn("Bonjour %s");
+        when(source2.getKey("key2")).thenReturn("Bonjour {0}");
+
+        bundle = MessageBundle.newBuilder().appendProvider(provider).freeze();
+    }
+
+    @Test
+    public void cannotCreateViewForNullLocale()
+    {
+        try {
+            bundle.forLocale(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullLocale"));
+        }
+    }
+
+    @Test
+    public void viewReturnsSameMessagesAsBundle()
+    {
+        final LocalizedBundle view = bundle.forLocale(LOCALE);
+
+        assertSame(view.getLocale(), LOCALE);
+
+        for (final String key: new String[] { "key1", "key2", "key3" }) {
+            assertEquals(view.getMessage(key), bundle.getMessage(LOCALE, key));
+            assertEquals(view.printf(key, "toi"),
+                bundle.printf(LOCALE, key, "toi"));
+            assertEquals(view.format(key, "toi"),
+                bundle.format(LOCALE, key, "toi"));
+        }
+    }
+
+    @Test
+    public void providersAreOnlyQueriedWhenViewIsCreated()
+    {
+        final LocalizedBundle view = bundle.forLocale(LOCALE);
+
+        view.getMessage("key1");
+        view.getMessage("key2");
+        view.printf("key3");
+
+        for (final Locale l: LocaleUtils.getApplicable(LOCALE))
+            verify(provider, times(1)).getMessageSource(l);
+    }
+
+    @Test
+    public void checkMethodsWork()
+    {
+        final LocalizedBundle view = bundle.forLocale(LOCALE);
+
+        try {
+            view.checkNotNullPrintf(null, "key1", "toi");
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), "Bonjour toi");
+        }
+
+        try {
+            view.checkArgumentFormat(false, "key2", "toi");
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Bonjour toi");
+        }
+
+        final Object o = new Object();
+        assertSame(view.checkNotNull(o, "key1"), o);
+        view.checkArgument(true, "key1");
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MapMessageSource;
+import com.github.fge.msgsimple.source.MessageSource;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static org.testng.Assert.*;
+
+/*
+ * Checks that the lookup path does not allocate once warmed up.
+ *
+ * This relies on the thread allocation counters of HotSpot's ThreadMXBean;
+ * tests are skipped if they are not available.
+ */
+public final class MessageBundleAllocationTest
+{
+    private static final int ITERATIONS = 20000;
+    private static final Locale LOCALE = Locale.FRANCE;
+
+    private com.sun.management.ThreadMXBean bean;
+    private MessageSource source;
+
+    @BeforeClass
+    public void init()
+    {
+        final java.lang.management.ThreadMXBean mxBean
+            = ManagementFactory.getThreadMXBean();
+        if (!(mxBean instanceof com.sun.management.ThreadMXBean))
+            throw new SkipException("allocation counters not available");
+        bean = (com.sun.management.ThreadMXBean) mxBean;
+        if (!bean.isThreadAllocatedMemorySupported())
+            throw new SkipException("allocation counters not supported");
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        source = MapMessageSource.newBuilder().put("key", "value").build();
+    }
+
+    @Test
+    public void cachedLookupsDoNotAllocate()
+    {
+        /*
+         * Neither static nor dynamic: the cache is the only thing saving us
+         * from a provider walk
+         */
+        final MessageSourceProvider provider = new MessageSourceProvider()
+        {
+            @Override
+            public MessageSource getMessageSource(final Locale locale)
+            {
+                return source;
+            }
+        };
+
+        final MessageBundle bundle = MessageBundle.newBuilder()
+            .appendProvider(provider).setCacheSize(16).freeze();
+
+        assertTrue(allocatedBytes(bundle) < ITERATIONS,
+            "cache hits should not allocate");
+    }
+
+    @Test
+    public void staticLookupsDoNotAllocate()
+    {
+        final MessageBundle bundle = MessageBundle.newBuilder()
+            .appendSource(source).appendSource(Locale.ROOT, source).freeze();
+
+        assertTrue(allocatedBytes(bundle) < ITERATIONS,
+            "lookups in static bundles should not allocate");
+    }
+
+    @Test
+    public void passingFixedArityChecksDoNotAllocate()
+    {
+        final MessageBundle bundle = MessageBundle.withSingleSource(source);
+        final long id = Thread.currentThread().getId();
+        final Object reference = bundle;
+
+        for (int i = 0; i < ITERATIONS; i++)
+            runChecks(bundle, reference, i);
+
+        final long before = bean.getThreadAllocatedBytes(id);
+        for (int i = 0; i < ITERATIONS; i++)
+            runChecks(bundle, reference, i);
+        final long allocated = bean.getThreadAllocatedBytes(id) - before;
+
+        assertTrue(allocated < ITERATIONS,
+            "passing checks should not allocate");
+    }
+
+    private static void runChecks(final MessageBundle bundle,
+        final Object reference, final int i)
+    {
+        bundle.checkNotNullPrintf(reference, LOCALE, "key", i);
+        bundle.checkArgumentPrintf(true, "key", (long) i);
+        bundle.checkNotNullFormat(reference, "key", reference, reference);
+        bundle.checkArgumentFormat(true, LOCALE, "key", reference, reference,
+            reference);
+    }
+
+    private long allocatedBytes(final MessageBundle bundle)
+    {
+        final long id = Thread.currentThread().getId();
+
+        for (int i = 0; i < ITERATIONS; i++)
+            bundle.getMessage(LOCALE, "key");
+
+        final long before = bean.getThreadAllocatedBytes(id);
+        for (int i = 0; i < ITERATIONS; i++)
+            bundle.getMessage(LOCALE, "key");
+        return bean.getThreadAllocatedBytes(id) - before;
+    }
+}
@@ -20,20 +20,28 @@
 package com.github.fge.msgsimple.bundle;
 
 import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.locale.LocaleContext;
 import com.github.fge.msgsimple.locale.LocaleUtils;
+import com.github.fge.msgsimple.provider.DynamicMessageSourceProvider;
 import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MapMessageSource;
 import com.github.fge.msgsimple.source.MessageSource;
 import org.mockito.InOrder;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
@@ -523,4 +531,642 @@ public final class MessageBundleTest
         bundle.checkArgumentPrintf(true, locale, key, arg);
         assertTrue(true);
     }
+
+    @Test
+    public void cannotSetNegativeCacheSize()
+    {
+        try {
+            builder.setCacheSize(-1);
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("cfg.negativeCacheSize"));
+        }
+    }
+
+    @Test
+    public void cachedMessagesDoNotQueryProvidersAgain()
+    {
+        final Locale locale = Locale.FRANCE;
+        final String key = "key";
+        final String value = "value";
+
+        when(source.getKey(key)).thenReturn(value);
+        when(provider.getMessageSource(locale)).thenReturn(source);
+
+        final MessageBundle bundle = builder.appendProvider(provider)
+            .setCacheSize(10).freeze();
+
+        assertEquals(bundle.getMessage(locale, key), value);
+        assertEquals(bundle.getMessage(locale, key), value);
+
+        verify(provider, times(1)).getMessageSource(locale);
+        verify(source, times(1)).getKey(key);
+    }
+
+    @Test
+    public void cacheIsInvalidatedWhenGenerationChanges()
+    {
+        final DynamicMessageSourceProvider dynamic
+            = mock(DynamicMessageSourceProvider.class);
+        final Locale locale = Locale.ROOT;
+        final String key = "key";
+
+        when(source.getKey(key)).thenReturn("value1");
+        when(source2.getKey(key)).thenReturn("value2");
+        when(dynamic.getMessageSource(locale)).thenReturn(source)
+            .thenReturn(source2);
+        when(dynamic.getGeneration()).thenReturn(0L, 0L, 1L);
+
+        final MessageBundle bundle = builder.appendProvider(dynamic)
+            .setCacheSize(10).freeze();
+
+        assertEquals(bundle.getMessage(locale, key), "value1");
+        assertEquals(bundle.getMessage(locale, key), "value1");
+        assertEquals(bundle.getMessage(locale, key), "value2");
+    }
+
+    @Test
+    public void cacheSizeIsPreservedWhenThawing()
+    {
+        final MessageBundle bundle = builder.setCacheSize(10).freeze();
+        assertEquals(bundle.thaw().freeze().cacheSize, 10);
+    }
+
+    @Test
+    public void cannotSetNegativeMissCacheSize()
+    {
+        try {
+            builder.setMissCacheSize(-1);
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("cfg.negativeCacheSize"));
+        }
+    }
+
+    @Test
+    public void missingKeysAreOnlyLookedUpOnceWithMissCache()
+    {
+        final Locale locale = LocaleUtils.parseLocale("ja_JP_JP");
+        final String key = "key";
+
+        final MessageBundle bundle = builder.appendProvider(provider)
+            .setMissCacheSize(10).freeze();
+
+        assertEquals(bundle.getMessage(locale, key), key);
+        assertEquals(bundle.getMessage(locale, key), key);
+
+        for (final Locale l: LocaleUtils.getApplicable(locale))
+            verify(provider, times(1)).getMessageSource(l);
+    }
+
+    @Test
+    public void missCacheIsInvalidatedWhenGenerationChanges()
+    {
+        final DynamicMessageSourceProvider dynamic
+            = mock(DynamicMessageSourceProvider.class);
+        final Locale locale = Locale.ROOT;
+        final String key = "key";
+        final String value = "value";
+
+        when(source.getKey(key)).thenReturn(value);
+        when(dynamic.getMessageSource(locale)).thenReturn(null)
+            .thenReturn(source);
+        when(dynamic.getGeneration()).thenReturn(0L, 0L, 1L);
+
+        final MessageBundle bundle = builder.appendProvider(dynamic)
+            .setMissCacheSize(10).freeze();
+
+        assertEquals(bundle.getMessage(locale, key), key);
+        assertEquals(bundle.getMessage(locale, key), key);
+        assertEquals(bundle.getMessage(locale, key), value);
+        verify(dynamic, times(2)).getMessageSource(locale);
+    }
+
+    @Test
+    public void consecutiveStaticProvidersAreMerged()
+    {
+        final MessageSource source1 = MapMessageSource.newBuilder()
+            .put("key1", "first").build();
+        final MessageSource source2 = MapMessageSource.newBuilder()
+            .put("key1", "second").put("key2", "second").build();
+        final MessageSource source3 = MapMessageSource.newBuilder()
+            .put("key2", "french").build();
+
+        final MessageBundle bundle = builder.appendSource(source2)
+            .prependSource(source1).appendSource(Locale.FRENCH, source3)
+            .freeze();
+
+        assertEquals(bundle.providers.length, 1);
+        assertEquals(bundle.getMessage(Locale.FRANCE, "key1"), "first");
+        assertEquals(bundle.getMessage(Locale.FRANCE, "key2"), "second");
+        assertEquals(bundle.getMessage(Locale.ROOT, "key2"), "second");
+        assertEquals(bundle.getMessage(Locale.ROOT, "key3"), "key3");
+    }
+
+    @Test
+    public void staticProvidersAreNotMergedAcrossOtherProviders()
+    {
+        final MessageBundle bundle = builder.appendSource(source)
+            .appendProvider(provider).appendSource(source2).freeze();
+
+        assertEquals(bundle.providers.length, 3);
+    }
+
+    @Test
+    public void cannotQueryNullKeyCollection()
+    {
+        try {
+            builder.freeze().getMessages(Locale.ROOT, null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullKeys"));
+        }
+    }
+
+    @Test
+    public void bulkLookupQueriesProvidersOnceAndPreservesKeyOrder()
+    {
+        final Locale locale = LocaleUtils.parseLocale("fr_FR");
+        final Locale parent = LocaleUtils.parseLocale("fr");
+
+        when(source.getKey("b")).thenReturn("B");
+        when(source2.getKey("a")).thenReturn("A");
+        when(provider.getMessageSource(locale)).thenReturn(source);
+        when(provider.getMessageSource(parent)).thenReturn(source2);
+
+        final MessageBundle bundle = builder.appendProvider(provider).freeze();
+        final Map<String, String> messages
+            = bundle.getMessages(locale, Arrays.asList("c", "b", "a"));
+
+        assertEquals(new ArrayList<String>(messages.keySet()),
+            Arrays.asList("c", "b", "a"));
+        assertEquals(new ArrayList<String>(messages.values()),
+            Arrays.asList("c", "B", "A"));
+
+        for (final Locale l: LocaleUtils.getApplicable(locale))
+            verify(provider, times(1)).getMessageSource(l);
+    }
+
+    @Test
+    public void cannotSetNullDefaultLocale()
+    {
+        try {
+            builder.setDefaultLocale(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("cfg.nullDefaultLocale"));
+        }
+    }
+
+    @Test
+    public void bundleDefaultLocaleIsUsedWhenSet()
+    {
+        final Locale locale = Locale.JAPAN;
+        final MessageBundle bundle = builder.appendProvider(provider)
+            .setDefaultLocale(locale).freeze();
+
+        bundle.getMessage("foo");
+        verify(provider).getMessageSource(locale);
+        assertSame(bundle.thaw().freeze().defaultLocale, locale);
+    }
+
+    @Test
+    public void threadLocaleOverridesBundleDefaultLocale()
+    {
+        final Locale locale = Locale.KOREA;
+        final MessageBundle bundle = builder.appendProvider(provider)
+            .setDefaultLocale(Locale.JAPAN).freeze();
+
+        final Locale previous = LocaleContext.set(locale);
+        try {
+            bundle.printf("foo");
+        } finally {
+            LocaleContext.set(previous);
+        }
+
+        verify(provider).getMessageSource(locale);
+        verify(provider, never()).getMessageSource(Locale.JAPAN);
+    }
+
+    @Test
+    public void currentLocaleIsOnlyDeterminedWhenCheckFails()
+    {
+        final Locale locale = Locale.GERMANY;
+        final String key = "key";
+
+        when(source.getKey(key)).thenReturn("hello %s");
+        when(provider.getMessageSource(locale)).thenReturn(source);
+
+        final MessageBundle bundle = builder.appendProvider(provider)
+            .setDefaultLocale(locale).freeze();
+
+        bundle.checkArgumentPrintf(true, key, "world");
+        verifyZeroInteractions(provider);
+
+        try {
+            bundle.checkArgumentPrintf(false, key, "world");
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "hello world");
+        }
+    }
+
+    @Test
+    public void cannotWriteToNullAppendable()
+        throws IOException
+    {
+        final MessageBundle bundle = builder.appendProvider(provider).freeze();
+
+        try {
+            bundle.printfTo(null, Locale.ROOT, "key");
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("query.nullAppendable"));
+        }
+
+        try {
+            bundle.formatTo(null, Locale.ROOT, "key");
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("query.nullAppendable"));
+        }
+    }
+
+    @Test
+    public void printfToWritesSameOutputAsPrintf()
+        throws IOException
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("ok")).thenReturn("%s has %d items");
+        when(source.getKey("bad")).thenReturn("%s has %d items %q");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .freeze();
+        final StringBuilder sb = new StringBuilder("> ");
+        final StringWriter writer = new StringWriter();
+
+        for (final String key: new String[] { "ok", "bad", "missing" }) {
+            sb.setLength(2);
+            bundle.printfTo(sb, locale, key, "cart", 3);
+            assertEquals(sb.toString(),
+                "> " + bundle.printf(locale, key, "cart", 3));
+        }
+
+        bundle.printfTo(writer, locale, "ok", "cart", 3);
+        bundle.printfTo(writer, locale, "ok", "cart", "three");
+        assertEquals(writer.toString(), "cart has 3 items%s has %d items");
+    }
+
+    @Test
+    public void formatToWritesSameOutputAsFormat()
+        throws IOException
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("ok")).thenReturn("{0} has {1} items");
+        when(source.getKey("bad")).thenReturn("{0} has {1,number} items");
+        when(source.getKey("invalid")).thenReturn("{x}");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .freeze();
+        final StringBuilder sb = new StringBuilder();
+        final StringBuffer buffer = new StringBuffer();
+
+        for (final String key: new String[] { "ok", "bad", "invalid" }) {
+            final String expected = bundle.format(locale, key, "cart", "3");
+
+            sb.setLength(0);
+            bundle.formatTo(sb, locale, key, "cart", "3");
+            assertEquals(sb.toString(), expected);
+
+            /*
+             * For "bad", MessageFormat fails after having written "cart has "
+             */
+            buffer.setLength(0);
+            buffer.append("> ");
+            bundle.formatTo(buffer, locale, key, "cart", "3");
+            assertEquals(buffer.toString(), "> " + expected);
+        }
+    }
+
+    @Test
+    public void fixedArityPrintfBehavesLikeVarargsPrintf()
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("s")).thenReturn("value: %s");
+        when(source.getKey("d")).thenReturn("value: %d");
+        when(source.getKey("x")).thenReturn("value: %x");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .freeze();
+
+        for (final String key: new String[] { "s", "d", "x" }) {
+            assertEquals(bundle.printf(locale, key, -42),
+                bundle.printf(locale, key, new Object[] { -42 }));
+            assertEquals(bundle.printf(locale, key, -42L),
+                bundle.printf(locale, key, new Object[] { -42L }));
+            assertEquals(bundle.printf(locale, key, 0.1),
+                bundle.printf(locale, key, new Object[] { 0.1 }));
+            assertEquals(bundle.printf(locale, key, 0.1f),
+                bundle.printf(locale, key, new Object[] { 0.1f }));
+            assertEquals(bundle.printf(locale, key, 'c'),
+                bundle.printf(locale, key, new Object[] { 'c' }));
+            assertEquals(bundle.printf(locale, key, (byte) -1),
+                bundle.printf(locale, key, new Object[] { (byte) -1 }));
+            assertEquals(bundle.printf(locale, key, (short) -1),
+                bundle.printf(locale, key, new Object[] { (short) -1 }));
+        }
+
+        final Integer nullInteger = null;
+        assertEquals(bundle.printf(locale, "s", nullInteger), "value: null");
+        assertEquals(bundle.printf(locale, "s", 'c'), "value: c");
+        assertEquals(bundle.printf(locale, "s", 0.1f), "value: 0.1");
+        assertEquals(bundle.printf(locale, "x", (byte) -1), "value: ff");
+        assertEquals(bundle.printf(locale, "x", (short) -1), "value: ffff");
+    }
+
+    @Test
+    public void fixedArityChecksFailWithSameMessagesAsVarargsChecks()
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("printf")).thenReturn("%s/%s/%s");
+        when(source.getKey("format")).thenReturn("{0}/{1}/{2}");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .setDefaultLocale(locale).freeze();
+
+        final Object[][] arguments = {
+            { "a" }, { "a", "b" }, { "a", "b", "c" }, { 42 }, { 42L }, { 'c' },
+            { 1.5 }
+        };
+
+        for (final Object[] args: arguments) {
+            final String printf = bundle.printf(locale, "printf", args);
+            final String format = bundle.format(locale, "format", args);
+
+            try {
+                switch (args.length) {
+                    case 1:
+                        if (args[0] instanceof Integer)
+                            bundle.checkNotNullPrintf(null, "printf",
+                                ((Integer) args[0]).intValue());
+                        else if (args[0] instanceof Long)
+                            bundle.checkNotNullPrintf(null, "printf",
+                                ((Long) args[0]).longValue());
+                        else if (args[0] instanceof Character)
+                            bundle.checkNotNullPrintf(null, "printf",
+                                ((Character) args[0]).charValue());
+                        else if (args[0] instanceof Double)
+                            bundle.checkNotNullPrintf(null, "printf",
+                                ((Double) args[0]).doubleValue());
+                        else
+                            bundle.checkNotNullPrintf(null, "printf", args[0]);
+                        break;
+                    case 2:
+                        bundle.checkNotNullPrintf(null, locale, "printf",
+                            args[0], args[1]);
+                        break;
+                    default:
+                        bundle.checkNotNullPrintf(null, locale, "printf",
+                            args[0], args[1], args[2]);
+                }
+                fail("No exception thrown!");
+            } catch (NullPointerException e) {
+                assertEquals(e.getMessage(), printf);
+            }
+
+            try {
+                switch (args.length) {
+                    case 1:
+                        if (args[0] instanceof Integer)
+                            bundle.checkArgumentFormat(false, locale, "format",
+                                ((Integer) args[0]).intValue());
+                        else if (args[0] instanceof Long)
+                            bundle.checkArgumentFormat(false, locale, "format",
+                                ((Long) args[0]).longValue());
+                        else if (args[0] instanceof Character)
+                            bundle.checkArgumentFormat(false, locale, "format",
+                                ((Character) args[0]).charValue());
+                        else if (args[0] instanceof Double)
+                            bundle.checkArgumentFormat(false, locale, "format",
+                                ((Double) args[0]).doubleValue());
+                        else
+                            bundle.checkArgumentFormat(false, locale, "format",
+                                args[0]);
+                        break;
+                    case 2:
+                        bundle.checkArgumentFormat(false, "format", args[0],
+                            args[1]);
+                        break;
+                    default:
+                        bundle.checkArgumentFormat(false, "format", args[0],
+                            args[1], args[2]);
+                }
+                fail("No exception thrown!");
+            } catch (IllegalArgumentException e) {
+                assertEquals(e.getMessage(), format);
+            }
+        }
+    }
+
+    @Test
+    public void fixedArityChecksDoNotWidenArguments()
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("hex")).thenReturn("%x");
+        when(source.getKey("string")).thenReturn("%s");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .setDefaultLocale(locale).freeze();
+
+        try {
+            bundle.checkArgumentPrintf(false, locale, "hex", (short) -1);
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "ffff");
+        }
+
+        try {
+            bundle.checkNotNullPrintf(null, "hex", (byte) -1);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), "ff");
+        }
+
+        try {
+            bundle.checkArgumentPrintf(false, "string", 0.1f);
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "0.1");
+        }
+    }
+
+    @Test
+    public void interpolationWorks()
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("key")).thenReturn("{user} has {0} items");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .setDefaultLocale(locale).freeze();
+        final Map<String, Object> args = new HashMap<String, Object>();
+        args.put("user", "joe");
+
+        assertEquals(bundle.interpolate(locale, "key", 3),
+            "{user} has 3 items");
+        assertEquals(bundle.interpolate("key", args), "joe has {0} items");
+        assertEquals(bundle.interpolate(locale, "missing", "x"), "missing");
+
+        try {
+            bundle.interpolate(locale, "key", (Map<String, ?>) null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullMap"));
+        }
+    }
+
+    @Test
+    public void cannotCreateRequestWithNullKey()
+    {
+        try {
+            MessageRequest.of(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullKey"));
+        }
+    }
+
+    @Test
+    public void batchPrintfQueriesProvidersOnceAndMatchesPrintf()
+        throws IOException
+    {
+        final Locale locale = LocaleUtils.parseLocale("it_IT");
+        final Locale parent = LocaleUtils.parseLocale("it");
+
+        when(provider.getMessageSource(locale)).thenReturn(source);
+        when(provider.getMessageSource(parent)).thenReturn(source2);
+        when(source.getKey("k1")).thenReturn("%s has %d items");
+        when(source2.getKey("k2")).thenReturn("bad %q");
+
+        final MessageBundle bundle = builder.appendProvider(provider).freeze();
+        final List<MessageRequest> requests = Arrays.asList(
+            MessageRequest.of("k1", "cart", 3),
+            MessageRequest.of("k2"),
+            MessageRequest.of("k3", "ignored")
+        );
+
+        final String[] messages = bundle.printfAll(locale, requests);
+
+        verify(provider, times(1)).getMessageSource(locale);
+        verify(provider, times(1)).getMessageSource(parent);
+
+        assertEquals(messages.length, 3);
+        for (int i = 0; i < 3; i++)
+            assertEquals(messages[i], bundle.printf(locale,
+                requests.get(i).getKey(), requests.get(i).params));
+
+        final StringBuilder sb = new StringBuilder();
+        bundle.printfAll(sb, locale, requests, "\n");
+        assertEquals(sb.toString(), "cart has 3 items\nbad %q\nk3");
+    }
+
+    @Test
+    public void requestsAreNotAffectedByLaterChangesToTheirParameters()
+    {
+        final Locale locale = Locale.ROOT;
+        when(source.getKey("key")).thenReturn("%s");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .setDefaultLocale(locale).freeze();
+        final Object[] params = { "before" };
+        final MessageRequest request = MessageRequest.of("key", params);
+
+        params[0] = "after";
+
+        assertEquals(bundle.printfAll(locale, Arrays.asList(request)),
+            new String[] { "before" });
+    }
+
+    @Test
+    public void batchPrintfRejectsNullRequests()
+    {
+        final MessageBundle bundle = builder.appendProvider(provider).freeze();
+
+        try {
+            bundle.printfAll(Locale.ROOT,
+                Arrays.asList(MessageRequest.of("k"), null));
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("query.nullRequest"));
+        }
+    }
+
+    @Test
+    public void cannotSetNegativePrintfCacheSize()
+    {
+        try {
+            builder.setPrintfCacheSize(-1);
+            fail("No exception thrown!");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(),
+                BUNDLE.getMessage("cfg.negativeCacheSize"));
+        }
+    }
+
+    @Test
+    public void printfResultsAreCachedForImmutableParameters()
+    {
+        final Locale locale = Locale.ROOT;
+        final String key = "key";
+
+        when(source.getKey(key)).thenReturn("%s: %s");
+
+        final MessageBundle bundle = builder.appendSource(locale, source)
+            .setPrintfCacheSize(10).freeze().thaw().freeze();
+
+        assertEquals(bundle.printf(locale, key, "a", 1), "a: 1");
+        assertEquals(bundle.printf(locale, key, "a", 1), "a: 1");
+        verify(source, times(1)).getKey(key);
+
+        assertEquals(bundle.printf(locale, key, "a", 1L), "a: 1");
+        assertEquals(bundle.printf(locale, key, "a", TimeUnit.SECONDS),
+            "a: SECONDS");
+        assertEquals(bundle.printf(locale, key, "a", TimeUnit.SECONDS),
+            "a: SECONDS");
+        verify(source, times(3)).getKey(key);
+
+        final StringBuilder sb = new StringBuilder("mutable");
+        assertEquals(bundle.printf(locale, key, "a", sb), "a: mutable");
+        sb.append('!');
+        assertEquals(bundle.printf(locale, key, "a", sb), "a: mutable!");
+        verify(source, times(5)).getKey(key);
+    }
+
+    @Test
+    public void printfCacheIsInvalidatedWhenGenerationChanges()
+    {
+        final DynamicMessageSourceProvider dynamic
+            = mock(DynamicMessageSourceProvider.class);
+        final Locale locale = Locale.ROOT;
+        final String key = "key";
+
+        when(source.getKey(key)).thenReturn("old %s");
+        when(source2.getKey(key)).thenReturn("new %s");
+        when(dynamic.getMessageSource(locale)).thenReturn(source)
+            .thenReturn(source2);
+        when(dynamic.getGeneration()).thenReturn(0L, 0L, 1L);
+
+        final MessageBundle bundle = builder.appendProvider(dynamic)
+            .setPrintfCacheSize(10).freeze();
+
+        assertEquals(bundle.printf(locale, key, "x"), "old x");
+        assertEquals(bundle.printf(locale, key, "x"), "old x");
+        assertEquals(bundle.printf(locale, key, "x"), "new x");
+        verify(dynamic, times(2)).getMessageSource(locale);
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.testng.Assert.*;
+
+public final class MessageFormatCacheTest
+{
+    private MessageFormatCache cache;
+
+    @BeforeMethod
+    public void init()
+    {
+        cache = new MessageFormatCache(2);
+    }
+
+    @Test
+    public void invalidPatternsAreRemembered()
+    {
+        final StringBuffer sb = new StringBuffer();
+
+        assertFalse(cache.format(Locale.ROOT, "{x}", null, sb));
+        assertFalse(cache.format(Locale.ROOT, "{x}", null, sb));
+        assertEquals(sb.length(), 0);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void patternsAreCachedPerLocale()
+    {
+        final Object[] params = { "world" };
+        final StringBuffer sb = new StringBuffer();
+
+        assertTrue(cache.format(Locale.ROOT, "Hello {0}", params, sb));
+        assertTrue(cache.format(Locale.ROOT, "Hello {0}", params, sb));
+        assertEquals(cache.size(), 1);
+
+        assertTrue(cache.format(Locale.FRENCH, "Hello {0}", params, sb));
+        assertEquals(cache.size(), 2);
+        assertEquals(sb.toString(), "Hello worldHello worldHello world");
+    }
+
+    @Test
+    public void cachedFormatsFormatLikeFreshOnes()
+    {
+        final String pattern = "{0,number,#.##} on {1,date} by {2}";
+        final Object[] params = { 3.14159, new Date(0L), "me" };
+        final StringBuffer sb = new StringBuffer();
+
+        for (final Locale locale: new Locale[] { Locale.ROOT, Locale.US,
+            Locale.FRANCE, Locale.GERMANY }) {
+            final String expected = new MessageFormat(pattern, locale)
+                .format(params);
+            for (int i = 0; i < 2; i++) {
+                sb.setLength(0);
+                assertTrue(cache.format(locale, pattern, params, sb));
+                assertEquals(sb.toString(), expected);
+            }
+        }
+    }
+
+    @Test
+    public void cacheIsDiscardedWhenFull()
+    {
+        final Object[] params = { 1 };
+        final StringBuffer sb = new StringBuffer();
+
+        cache.format(Locale.ROOT, "a {0}", params, sb);
+        cache.format(Locale.ROOT, "b {0}", params, sb);
+        assertEquals(cache.size(), 2);
+
+        sb.setLength(0);
+        assertTrue(cache.format(Locale.ROOT, "c {0}", params, sb));
+        assertEquals(sb.toString(), "c 1");
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void formattingIsSameAsMessageFormat()
+    {
+        final String[] patterns = {
+            "{0} and {1} on {2}", "{0,number,#.##} and {1} on {2,date}",
+            "{3} is missing", "{x}"
+        };
+        final Object[] params = { 1234567.891, -42L, new Date(0L) };
+        final StringBuffer sb = new StringBuffer();
+
+        for (final Locale locale: new Locale[] { Locale.ROOT, Locale.US,
+            Locale.FRANCE, Locale.GERMANY }) {
+            for (final String pattern: patterns) {
+                sb.setLength(0);
+                sb.append("> ");
+                final boolean valid = cache.format(locale, pattern, params, sb);
+                if (pattern.equals("{x}")) {
+                    assertFalse(valid);
+                    assertEquals(sb.toString(), "> ");
+                    continue;
+                }
+                assertTrue(valid);
+                assertEquals(sb.toString(),
+                    "> " + new MessageFormat(pattern, locale).format(params));
+            }
+        }
+    }
+
+    @Test
+    public void bufferIsLeftUntouchedWhenFormattingFails()
+    {
+        final StringBuffer sb = new StringBuffer("> ");
+
+        assertFalse(cache.format(Locale.ROOT, "{0} {1,number}",
+            new Object[] { "a", "b" }, sb));
+        assertEquals(sb.toString(), "> ");
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import com.github.fge.msgsimple.InternalBundle;
+import com.github.fge.msgsimple.provider.DynamicMessageSourceProvider;
+import com.github.fge.msgsimple.provider.MessageSourceProvider;
+import com.github.fge.msgsimple.source.MessageSource;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public final class MessageHandleTest
+{
+    private static final InternalBundle BUNDLE
+        = InternalBundle.getInstance();
+
+    private static final String KEY = "key";
+
+    private MessageSource source;
+    private MessageSource source2;
+
+    @BeforeMethod
+    public void init()
+    {
+        source = mock(MessageSource.class);
+        source2 = mock(MessageSource.class);
+    }
+
+    @Test
+    public void cannotCreateHandleForNullKey()
+    {
+        try {
+            MessageBundle.newBuilder().freeze().handle(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullKey"));
+        }
+    }
+
+    @Test
+    public void cannotQueryHandleWithNullLocale()
+    {
+        try {
+            MessageBundle.newBuilder().freeze().handle(KEY).get(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("query.nullLocale"));
+        }
+    }
+
+    @Test
+    public void handleReturnsSameMessagesAsBundle()
+    {
+        when(source.getKey(KEY)).thenReturn("bonjour %s {0}");
+        when(source2.getKey(KEY)).thenReturn("hello %s {0}");
+
+        final MessageBundle bundle = MessageBundle.newBuilder()
+            .appendSource(Locale.FRENCH, source).appendSource(source2)
+            .freeze();
+        final MessageHandle handle = bundle.handle(KEY);
+
+        for (final Locale locale: new Locale[] { Locale.FRANCE, Locale.ROOT,
+            Locale.FRANCE }) {
+            assertEquals(handle.get(locale), bundle.getMessage(locale, KEY));
+            assertEquals(handle.printf(locale, "x"),
+                bundle.printf(locale, KEY, "x"));
+            assertEquals(handle.format(locale, "x"),
+                bundle.format(locale, KEY, "x"));
+        }
+    }
+
+    @Test
+    public void resolvedMessagesAreRemembered()
+    {
+        final DynamicMessageSourceProvider provider
+            = mock(DynamicMessageSourceProvider.class);
+        when(provider.getMessageSource(Locale.ROOT)).thenReturn(source);
+        when(source.getKey(KEY)).thenReturn("value");
+
+        final MessageHandle handle = MessageBundle.newBuilder()
+            .appendProvider(provider).freeze().handle(KEY);
+
+        assertEquals(handle.get(Locale.ROOT), "value");
+        assertEquals(handle.get(Locale.ROOT), "value");
+
+        verify(provider, times(1)).getMessageSource(Locale.ROOT);
+    }
+
+    @Test
+    public void messagesFromUntrackedProvidersAreNotRemembered()
+    {
+        final MessageSourceProvider provider
+            = mock(MessageSourceProvider.class);
+        when(provider.getMessageSource(Locale.ROOT)).thenReturn(source)
+            .thenReturn(source2);
+        when(source.getKey(KEY)).thenReturn("value1");
+        when(source2.getKey(KEY)).thenReturn("value2");
+
+        final MessageHandle handle = MessageBundle.newBuilder()
+            .appendProvider(provider).freeze().handle(KEY);
+
+        assertEquals(handle.get(Locale.ROOT), "value1");
+        assertEquals(handle.get(Locale.ROOT), "value2");
+    }
+
+    @Test
+    public void handleIsRefreshedWhenGenerationChanges()
+    {
+        final DynamicMessageSourceProvider provider
+            = mock(DynamicMessageSourceProvider.class);
+        when(provider.getMessageSource(Locale.ROOT)).thenReturn(source)
+            .thenReturn(source2);
+        when(provider.getGeneration()).thenReturn(0L, 0L, 1L);
+        when(source.getKey(KEY)).thenReturn("value1");
+        when(source2.getKey(KEY)).thenReturn("value2");
+
+        final MessageHandle handle = MessageBundle.newBuilder()
+            .appendProvider(provider).freeze().handle(KEY);
+
+        assertEquals(handle.get(Locale.ROOT), "value1");
+        assertEquals(handle.get(Locale.ROOT), "value1");
+        assertEquals(handle.get(Locale.ROOT), "value2");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public final class PrintfKeyTest
+{
+    @Test
+    public void onlyImmutableParametersAreCacheable()
+    {
+        assertTrue(PrintfKey.isCacheable(new Object[0]));
+        assertTrue(PrintfKey.isCacheable(new Object[] { "a", 1, 2L, 'c', true,
+            1.5, 1.5f, (short) 1, (byte) 1, null, TimeUnit.SECONDS }));
+
+        assertFalse(PrintfKey.isCacheable(null));
+        assertFalse(PrintfKey.isCacheable(new Object[] { "a", new Object() }));
+        assertFalse(PrintfKey.isCacheable(new Object[] { BigDecimal.ONE }));
+        assertFalse(PrintfKey.isCacheable(
+            new Object[] { new StringBuilder() }));
+    }
+
+    @Test
+    public void keysWithEqualParametersAreEqual()
+    {
+        final PrintfKey key = new PrintfKey("key", new Object[] { "a", 1 });
+
+        assertEquals(new PrintfKey("key", new Object[] { "a", 1 }), key);
+        assertEquals(new PrintfKey("key", new Object[] { "a", 1 }).hashCode(),
+            key.hashCode());
+
+        assertNotEquals(new PrintfKey("key2", new Object[] { "a", 1 }), key);
+        assertNotEquals(new PrintfKey("key", new Object[] { "a", 1L }), key);
+        assertNotEquals(new PrintfKey("key", new Object[] { "a" }), key);
+    }
+
+    @Test
+    public void copiedKeysDoNotShareParameters()
+    {
+        final Object[] params = { "a", 1 };
+        final PrintfKey copy = new PrintfKey("key", params).copy();
+
+        params[1] = 2;
+
+        assertEquals(copy, new PrintfKey("key", new Object[] { "a", 1 }));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.bundle;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.testng.Assert.*;
+
+public final class PrintfTemplateTest
+{
+    private static final Formattable FORMATTABLE = new Formattable()
+    {
+        @Override
+        public void formatTo(final Formatter formatter, final int flags,
+            final int width, final int precision)
+        {
+            formatter.format("formattable");
+        }
+    };
+
+    private static final Locale[] LOCALES = {
+        Locale.ROOT, Locale.US, Locale.FRANCE, Locale.GERMANY,
+        new Locale("de", "CH"), new Locale("ar", "SA"),
+        new Locale("th", "TH", "TH")
+    };
+
+    private static final String[] FORMATS = {
+        "", "hello", "100%%", "a%nb", "%s", "%d", "Hello %s!", "%s and %s",
+        "%2$s %1$s", "%s %<s", "%<s", "%d%%", "%0$s", "%3$s", "%5d",
+        "%,d", "%-s", "%S", "%x", "%s %s %s", "trailing %", "%q", "%1$<s",
+        "%.2f", "%-5%", "%1$n", "%s%n%d", "%,d %<s", "%2$,d", "%,s", "%,<d",
+        "%-d", "%s %q", "%--5s", "%.2d", "%5n", "%<%", "%<n", "%-%", "%+%",
+        "%#d", "%#s", "%#x", "%,x", "%+ d", "%-05d", "%05d", "%+d", "%(d",
+        "%,e", "%#g", "%(a", "%.2c", "%0c", "%-c", "%#b", "%0s", "%tH",
+        "%tq", "%t", "%T", "%.2tH", "%-tH", "%#tH", "%+x", "%(o", "%D",
+        "%-5s %<-3s", "%, f", "%+,.2f", "%010.3e", "%B", "%H", "%2$<s"
+    };
+
+    private static final Object[][] ARGUMENTS = {
+        null,
+        {},
+        { "world" },
+        { 42 },
+        { 42L, "x" },
+        { (short) -3, (byte) 7, Integer.MIN_VALUE },
+        { Long.MIN_VALUE },
+        { 1234567, -1234567890123L },
+        { (short) -1000, 999 },
+        { null, null },
+        { 1.5 },
+        { new BigInteger("123456789012345678901234567890") },
+        { FORMATTABLE, 1 },
+        { new StringBuilder("sb"), 'c', true }
+    };
+
+    @DataProvider
+    public Iterator<Object[]> equivalenceData()
+    {
+        final List<Object[]> list = new ArrayList<Object[]>();
+
+        for (final Locale locale: LOCALES)
+            for (final String format: FORMATS)
+                for (final Object[] args: ARGUMENTS)
+                    list.add(new Object[] { locale, format, args });
+
+        return list.iterator();
+    }
+
+    /*
+     * @DataProvider doesn't like varargs methods...
+     */
+    @Test(dataProvider = "equivalenceData")
+    public void templateRendersLikeStringFormat(final Locale locale,
+        final String format, final Object[] args)
+    {
+        String expected;
+
+        try {
+            expected = String.format(locale, format, args);
+        } catch (IllegalFormatException ignored) {
+            expected = format;
+        }
+
+        final PrintfTemplate template = PrintfTemplate.compile(format);
+
+        assertEquals(template.render(locale, args), expected);
+        /*
+         * And a second time, for good measure
+         */
+        assertEquals(template.render(locale, args), expected);
+    }
+
+    @Test(dataProvider = "equivalenceData")
+    public void templateWritesSameOutputAsItRenders(final Locale locale,
+        final String format, final Object[] args)
+        throws IOException
+    {
+        final PrintfTemplate template = PrintfTemplate.compile(format);
+        final String expected = template.render(locale, args);
+        final StringBuilder sb = new StringBuilder("> ");
+        final StringWriter writer = new StringWriter();
+
+        template.renderTo(sb, locale, args);
+        template.renderTo(writer, locale, args);
+
+        assertEquals(sb.toString(), "> " + expected);
+        assertEquals(writer.toString(), expected);
+    }
+
+    @DataProvider
+    public Iterator<Object[]> primitiveData()
+    {
+        final List<Object[]> list = new ArrayList<Object[]>();
+
+        for (final Locale locale: LOCALES)
+            for (final String format: FORMATS)
+                list.add(new Object[] { locale, format });
+
+        return list.iterator();
+    }
+
+    @Test(dataProvider = "primitiveData")
+    public void primitiveRenderingIsSameAsBoxedRendering(final Locale locale,
+        final String format)
+    {
+        final PrintfTemplate template = PrintfTemplate.compile(format);
+
+        for (final int i: new int[] { 0, -1, 42, Integer.MIN_VALUE })
+            assertEquals(template.render(locale, i),
+                template.render(locale, new Object[] { i }));
+        for (final long l: new long[] { 0L, -1L, 1L << 40, Long.MIN_VALUE })
+            assertEquals(template.render(locale, l),
+                template.render(locale, new Object[] { l }));
+        for (final double d: new double[] { 0.0, -1.5, 1e100, Double.NaN })
+            assertEquals(template.render(locale, d),
+                template.render(locale, new Object[] { d }));
+    }
+}
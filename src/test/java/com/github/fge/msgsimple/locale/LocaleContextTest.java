@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.locale;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+import static org.testng.Assert.*;
+
+public final class LocaleContextTest
+{
+    @AfterMethod
+    public void cleanup()
+    {
+        LocaleContext.clear();
+    }
+
+    @Test
+    public void noLocaleIsBoundByDefault()
+    {
+        assertNull(LocaleContext.get());
+    }
+
+    @Test
+    public void settingLocaleReturnsPreviousOne()
+    {
+        assertNull(LocaleContext.set(Locale.FRANCE));
+        assertSame(LocaleContext.set(Locale.CHINA), Locale.FRANCE);
+        assertSame(LocaleContext.get(), Locale.CHINA);
+        assertSame(LocaleContext.set(null), Locale.CHINA);
+        assertNull(LocaleContext.get());
+    }
+
+    @Test
+    public void localeIsBoundToCurrentThreadOnly()
+        throws InterruptedException
+    {
+        final Locale[] seen = new Locale[1];
+        final Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                seen[0] = LocaleContext.get();
+            }
+        };
+
+        LocaleContext.set(Locale.FRANCE);
+        thread.start();
+        thread.join();
+
+        assertNull(seen[0]);
+        assertSame(LocaleContext.get(), Locale.FRANCE);
+    }
+}
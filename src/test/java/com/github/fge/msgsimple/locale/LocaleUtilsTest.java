@@ -24,6 +24,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -176,6 +177,28 @@ public final class LocaleUtilsTest
         assertEquals(LocaleUtils.getApplicable(baseLocale), localeList);
     }
 
+    @Test(dependsOnMethods = "localeListCalculationWorks")
+    public void applicableLocalesAreComputedOnlyOnce()
+    {
+        final Locale locale = LocaleUtils.parseLocale("ja_JP_JP");
+        final Collection<Locale> first = LocaleUtils.getApplicable(locale);
+
+        assertSame(LocaleUtils.getApplicable(locale), first);
+        assertSame(LocaleUtils.getApplicable(new Locale("ja", "JP", "JP")),
+            first);
+    }
+
+    @Test(dependsOnMethods = "localeListCalculationWorks")
+    public void applicableLocalesCannotBeModified()
+    {
+        try {
+            LocaleUtils.getApplicable(Locale.FRANCE).add(Locale.ROOT);
+            fail("No exception thrown!");
+        } catch (UnsupportedOperationException ignored) {
+            assertTrue(true);
+        }
+    }
+
     @DataProvider
     public Iterator<Object[]> illegalLocales()
     {
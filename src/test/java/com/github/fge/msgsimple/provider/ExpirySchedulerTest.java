@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2014, Francis Galiegue (fgaliegue@gmail.com)
+ *
+ * This software is dual-licensed under:
+ *
+ * - the Lesser General Public License (LGPL) version 3.0 or, at your option, any
+ *   later version;
+ * - the Apache Software License (ASL) version 2.0.
+ *
+ * The text of this file and of both licenses is available at the root of this
+ * project or, if you have the jar distribution, in directory META-INF/, under
+ * the names LGPL-3.0.txt and ASL-2.0.txt respectively.
+ *
+ * Direct link to the sources:
+ *
+ * - LGPL 3.0: https://www.gnu.org/licenses/lgpl-3.0.txt
+ * - ASL 2.0: http://www.apache.org/licenses/LICENSE-2.0.txt
+ */
+
+package com.github.fge.msgsimple.provider;
+
+import com.github.fge.msgsimple.source.MessageSource;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public final class ExpirySchedulerTest
+{
+    @Test
+    public void scheduledProvidersAreExpired()
+        throws IOException, InterruptedException
+    {
+        final MessageSourceLoader loader = mock(MessageSourceLoader.class);
+        final LoadingMessageSourceProvider provider = newProvider(loader);
+        final Future<?> future = schedule(provider);
+
+        /*
+         * Expired locales are loaded again on the next lookup
+         */
+        for (int i = 0; i < 100; i++) {
+            provider.getMessageSource(Locale.ROOT);
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+
+        future.cancel(false);
+        verify(loader, atLeast(2)).load(Locale.ROOT);
+    }
+
+    @Test
+    public void collectedProvidersAreNoLongerScheduled()
+    {
+        final ExpiryScheduler.ExpiryTask task = new ExpiryScheduler.ExpiryTask(
+            newProvider(mock(MessageSourceLoader.class)));
+        final Future<?> future = mock(Future.class);
+        task.future = future;
+
+        /*
+         * Same as what the garbage collector would do
+         */
+        task.ref.clear();
+        task.run();
+
+        verify(future).cancel(false);
+    }
+
+    @Test
+    public void failedExpiriesDoNotStopTheTask()
+        throws IOException
+    {
+        final MessageSourceLoader loader = mock(MessageSourceLoader.class);
+        when(loader.load(Locale.ROOT)).thenReturn(mock(MessageSource.class));
+
+        /*
+         * Run the first load in the calling thread; fail all refreshes
+         */
+        final AtomicInteger executions = new AtomicInteger();
+        final Executor executor = new Executor()
+        {
+            @Override
+            public void execute(final Runnable command)
+            {
+                if (executions.getAndIncrement() > 0)
+                    throw new IllegalStateException();
+                command.run();
+            }
+        };
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) LoadingMessageSourceProvider
+            .newBuilder().setLoader(loader).setExecutor(executor)
+            .neverExpires().refreshOnExpiry().build();
+        provider.getMessageSource(Locale.ROOT);
+
+        final ExpiryScheduler.ExpiryTask task
+            = new ExpiryScheduler.ExpiryTask(provider);
+        final Future<?> future = mock(Future.class);
+        task.future = future;
+
+        task.run();
+
+        assertEquals(executions.get(), 2);
+        verify(future, never()).cancel(anyBoolean());
+    }
+
+    private static Future<?> schedule(
+        final LoadingMessageSourceProvider provider)
+    {
+        return ExpiryScheduler.schedule(provider, 5L, TimeUnit.MILLISECONDS);
+    }
+
+    private static LoadingMessageSourceProvider newProvider(
+        final MessageSourceLoader loader)
+    {
+        return (LoadingMessageSourceProvider) LoadingMessageSourceProvider
+            .newBuilder().setLoader(loader).neverExpires().build();
+    }
+}
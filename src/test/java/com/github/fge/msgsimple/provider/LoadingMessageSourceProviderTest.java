@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -165,6 +166,69 @@ public final class LoadingMessageSourceProviderTest
         verify(loader, only()).load(Locale.ROOT);
     }
 
+    @Test
+    public void cannotSetNullExecutor()
+    {
+        try {
+            builder.setExecutor(null);
+            fail("No exception thrown!");
+        } catch (NullPointerException e) {
+            assertEquals(e.getMessage(), BUNDLE.getMessage("cfg.nullExecutor"));
+        }
+    }
+
+    @Test(dependsOnMethods = "cannotSetNullExecutor")
+    public void executorIsUsedWhenItIsSet()
+        throws IOException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final Executor executor = spy(new Executor()
+        {
+            @Override
+            public void execute(final Runnable command)
+            {
+                command.run();
+            }
+        });
+
+        final MessageSourceProvider provider = builder.setLoader(loader)
+            .setExecutor(executor).build();
+
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        verify(executor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test(dependsOnMethods = "cannotSetNullExecutor")
+    public void rejectedLoadsReturnDefaultSource()
+        throws IOException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        service.shutdown();
+
+        final MessageSourceProvider provider = builder.setLoader(loader)
+            .setDefaultSource(defaultSource).setExecutor(service).build();
+
+        assertSame(provider.getMessageSource(Locale.ROOT), defaultSource);
+        assertSame(provider.getMessageSource(Locale.ROOT), defaultSource);
+        verify(loader, never()).load(any(Locale.class));
+    }
+
+    @Test
+    public void loadsWorkWithVirtualThreadsOption()
+        throws IOException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final MessageSourceProvider provider = builder.setLoader(loader)
+            .useVirtualThreads().build();
+
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+    }
+
     @Test
     public void cannotSetNonsensicalTimeoutDuration()
     {
@@ -350,6 +414,230 @@ public final class LoadingMessageSourceProviderTest
         assertTrue(true);
     }
 
+    @Test
+    public void generationChangesWhenLoadCompletes()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader).build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+
+        /*
+         * The generation is bumped after the result is made available, so we
+         * may have to wait a little
+         */
+        for (int i = 0; i < 100; i++) {
+            if (provider.getGeneration() > before)
+                break;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertTrue(provider.getGeneration() > before);
+    }
+
+    @Test
+    public void completedLoadsAreServedWithoutDefaultSource()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader).build();
+
+        final long before = provider.getGeneration();
+        provider.getMessageSource(Locale.ROOT);
+        provider.getMessageSource(Locale.FRENCH);
+
+        for (int i = 0; i < 100; i++) {
+            if (provider.getGeneration() >= before + 2)
+                break;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+
+        /*
+         * Both loads have completed: the result (or lack thereof) must be
+         * served as is, and the loader not invoked again
+         */
+        for (int i = 0; i < 10; i++) {
+            assertSame(provider.getMessageSource(Locale.ROOT), source);
+            assertNull(provider.getMessageSource(Locale.FRENCH));
+        }
+        verify(loader).load(Locale.ROOT);
+        verify(loader).load(Locale.FRENCH);
+    }
+
+    @Test
+    public void refreshServesPreviousSourceUntilReloadSucceeds()
+        throws IOException, InterruptedException
+    {
+        final MessageSource newSource = mock(MessageSource.class);
+        when(loader.load(Locale.ROOT)).thenReturn(source)
+            .thenAnswer(answerWithDelay(newSource, 200L,
+                TimeUnit.MILLISECONDS));
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader)
+            .setDefaultSource(defaultSource).refreshOnExpiry().build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        waitForGeneration(provider, before + 1);
+
+        provider.expire();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+
+        for (int i = 0; i < 100; i++) {
+            if (provider.getMessageSource(Locale.ROOT) == newSource)
+                break;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertSame(provider.getMessageSource(Locale.ROOT), newSource);
+        verify(loader, times(2)).load(Locale.ROOT);
+    }
+
+    @Test
+    public void refreshKeepsPreviousSourceIfReloadFails()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source)
+            .thenThrow(new IOException());
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader)
+            .setDefaultSource(defaultSource).refreshOnExpiry().build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        waitForGeneration(provider, before + 1);
+
+        /*
+         * Only the end of the reload bumps the generation
+         */
+        provider.expire();
+        waitForGeneration(provider, before + 2);
+
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        verify(loader, times(2)).load(Locale.ROOT);
+    }
+
+    @Test
+    public void refreshRetriesHungFirstLoads()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT))
+            .thenAnswer(answerWithDelay(source, 10L, TimeUnit.SECONDS))
+            .thenReturn(source);
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader)
+            .setDefaultSource(defaultSource)
+            .setLoadTimeout(10L, TimeUnit.MILLISECONDS).refreshOnExpiry()
+            .build();
+
+        assertSame(provider.getMessageSource(Locale.ROOT), defaultSource);
+
+        provider.expire();
+
+        for (int i = 0; i < 100; i++) {
+            if (provider.getMessageSource(Locale.ROOT) == source)
+                break;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        verify(loader, times(2)).load(Locale.ROOT);
+    }
+
+    @Test
+    public void refreshRetriesHungRefreshes()
+        throws IOException, InterruptedException
+    {
+        final MessageSource newSource = mock(MessageSource.class);
+        when(loader.load(Locale.ROOT)).thenReturn(source)
+            .thenAnswer(answerWithDelay(source, 10L, TimeUnit.SECONDS))
+            .thenReturn(newSource);
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader)
+            .setDefaultSource(defaultSource).refreshOnExpiry().build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        waitForGeneration(provider, before + 1);
+
+        provider.expire();
+        verify(loader, timeout(1000).times(2)).load(Locale.ROOT);
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+
+        provider.expire();
+
+        for (int i = 0; i < 100; i++) {
+            if (provider.getMessageSource(Locale.ROOT) == newSource)
+                break;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertSame(provider.getMessageSource(Locale.ROOT), newSource);
+        verify(loader, times(3)).load(Locale.ROOT);
+    }
+
+    @Test
+    public void refreshOnlyChangesGenerationWhenReloadCompletes()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source)
+            .thenAnswer(answerWithDelay(source, 200L, TimeUnit.MILLISECONDS));
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader)
+            .refreshOnExpiry().build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        waitForGeneration(provider, before + 1);
+
+        provider.expire();
+        assertEquals(provider.getGeneration(), before + 1);
+
+        waitForGeneration(provider, before + 2);
+        assertEquals(provider.getGeneration(), before + 2);
+    }
+
+    @Test
+    public void expiryWithoutRefreshDiscardsSources()
+        throws IOException, InterruptedException
+    {
+        when(loader.load(Locale.ROOT)).thenReturn(source);
+
+        final LoadingMessageSourceProvider provider
+            = (LoadingMessageSourceProvider) builder.setLoader(loader).build();
+
+        final long before = provider.getGeneration();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        waitForGeneration(provider, before + 1);
+
+        provider.expire();
+        assertSame(provider.getMessageSource(Locale.ROOT), source);
+        verify(loader, times(2)).load(Locale.ROOT);
+    }
+
+    /*
+     * The result of a load is published, and the generation bumped, shortly
+     * after .get() returns; we may have to wait a little
+     */
+    private static void waitForGeneration(
+        final LoadingMessageSourceProvider provider, final long generation)
+        throws InterruptedException
+    {
+        for (int i = 0; i < 100; i++) {
+            if (provider.getGeneration() >= generation)
+                return;
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        fail("generation did not reach " + generation);
+    }
+
     private static Answer<MessageSource> answerWithDelay(
         final MessageSource source, final long duration, final TimeUnit unit)
     {
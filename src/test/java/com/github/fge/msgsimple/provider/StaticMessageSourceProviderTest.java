@@ -24,6 +24,7 @@ import com.github.fge.msgsimple.source.MessageSource;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Locale;
 
 import static org.mockito.Mockito.*;
@@ -104,4 +105,41 @@ public final class StaticMessageSourceProviderTest
         builder.addSource(locale, source).addSource(locale, source2);
         assertSame(builder.build().getMessageSource(locale), source2);
     }
+
+    @Test
+    public void mergedProvidersQuerySourcesInOrder()
+    {
+        final Locale locale = Locale.CHINA;
+        final String key = "key";
+
+        when(source.getKey(key)).thenReturn(null);
+        when(source2.getKey(key)).thenReturn("value");
+
+        final StaticMessageSourceProvider first
+            = (StaticMessageSourceProvider) builder.addSource(locale, source)
+            .build();
+        final StaticMessageSourceProvider second
+            = (StaticMessageSourceProvider) StaticMessageSourceProvider
+            .withSingleSource(source2);
+
+        final MessageSourceProvider merged = StaticMessageSourceProvider
+            .merge(Arrays.asList(first, second));
+
+        assertEquals(merged.getMessageSource(locale).getKey(key), "value");
+        assertSame(merged.getMessageSource(Locale.ROOT), source2);
+    }
+
+    @Test
+    public void mergedProvidersWithoutDefaultSourceHaveNoDefaultSource()
+    {
+        final StaticMessageSourceProvider provider
+            = (StaticMessageSourceProvider) builder
+            .addSource(Locale.CHINA, source).build();
+
+        final MessageSourceProvider merged = StaticMessageSourceProvider
+            .merge(Arrays.asList(provider, provider));
+
+        assertNotNull(merged.getMessageSource(Locale.CHINA));
+        assertNull(merged.getMessageSource(Locale.ROOT));
+    }
 }